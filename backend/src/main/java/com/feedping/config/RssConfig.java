@@ -1,8 +1,12 @@
 package com.feedping.config;
 
+import com.feedping.rss.FeedHttpProperties;
 import com.rometools.rome.io.SyndFeedInput;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -13,9 +17,26 @@ public class RssConfig {
         return new SyndFeedInput();
     }
 
+    /**
+     * 피드 수집 전용 HTTP 클라이언트
+     * HTTP/2를 지원하는 서버와는 연결 하나로 다중화하고, 그 외에는 HTTP/1.1 keep-alive 연결을 호스트별로 재사용
+     * 영구 이동(301/308)을 기록하기 위해 리다이렉트는 클라이언트가 아닌 RssCommonService에서 직접 따라감
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient feedHttpClient(FeedHttpProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(HttpClient feedHttpClient, FeedHttpProperties properties) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(feedHttpClient);
+        requestFactory.setReadTimeout(properties.readTimeout());
+        return new RestTemplate(requestFactory);
     }
 
 }
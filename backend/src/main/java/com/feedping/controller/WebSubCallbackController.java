@@ -0,0 +1,52 @@
+package com.feedping.controller;
+
+import com.feedping.service.WebSubService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * WebSub 허브 콜백
+ * 응답 형식이 WebSub 명세로 정해져 있으므로 ApiResponse로 감싸지 않음
+ */
+@RequiredArgsConstructor
+@RequestMapping("/websub/callback")
+@RestController
+public class WebSubCallbackController {
+
+    private final WebSubService webSubService;
+
+    // 구독 확인 요청: challenge 값을 본문에 그대로 돌려줌
+    @GetMapping(value = "/{callbackToken}", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> verifyIntent(
+            @PathVariable String callbackToken,
+            @RequestParam("hub.mode") String mode,
+            @RequestParam("hub.topic") String topic,
+            @RequestParam(value = "hub.challenge", required = false) String challenge,
+            @RequestParam(value = "hub.lease_seconds", required = false) Long leaseSeconds
+    ) {
+        return ResponseEntity.ok(webSubService.verifyIntent(callbackToken, mode, topic, challenge, leaseSeconds));
+    }
+
+    // 콘텐츠 배포: 허브가 새 글이 담긴 피드 본문을 전달
+    @PostMapping("/{callbackToken}")
+    public ResponseEntity<Void> receive(
+            @PathVariable String callbackToken,
+            @RequestHeader(value = "X-Hub-Signature", required = false) String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestBody byte[] body
+    ) {
+        webSubService.receive(callbackToken, signature, contentType, body);
+        return ResponseEntity.noContent().build();
+    }
+
+}
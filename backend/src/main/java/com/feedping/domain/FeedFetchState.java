@@ -0,0 +1,178 @@
+package com.feedping.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드 수집 상태
+ * 조건부 요청(If-None-Match / If-Modified-Since)에 사용할 검증자를 보관
+ */
+@Getter
+@NoArgsConstructor
+@Embeddable
+public class FeedFetchState {
+
+    @Column(name = "etag", length = 1024)
+    private String etag;
+
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    @Column(name = "last_fetched_at")
+    private LocalDateTime lastFetchedAt;
+
+    @Column(name = "body_fingerprint")
+    private Long bodyFingerprint;
+
+    @Column(name = "charset", length = 40)
+    private String charset;
+
+    @Column(name = "oversized")
+    private Boolean oversized;      // 마지막 수집에서 본문 크기 한도를 넘었는지 여부
+
+    @Column(name = "consecutive_failures")
+    private Integer consecutiveFailures;
+
+    @Column(name = "last_error", length = 100)
+    private String lastError;       // 마지막 실패 원인 (오류 코드 또는 예외 클래스 이름)
+
+    @Column(name = "last_success_at")
+    private LocalDateTime lastSuccessAt;
+
+    @Column(name = "poll_interval_seconds")
+    private Long pollIntervalSeconds;
+
+    @Column(name = "next_poll_at")
+    private LocalDateTime nextPollAt;
+
+    @Column(name = "newest_entry_at")
+    private LocalDateTime newestEntryAt;    // 지금까지 처리한 항목 중 가장 최근 발행 시각
+
+    @Column(name = "recent_entry_keys", length = 700)
+    private String recentEntryKeys;         // 최근 처리한 항목 링크의 해시 (16진수, 쉼표 구분, 최신순)
+
+    @Column(name = "baseline_pending")
+    private Boolean baselinePending;        // 다음 수집에서 현재 항목을 알림 없이 기준으로만 기록할지 여부
+
+    /**
+     * 응답으로 받은 검증자 갱신
+     * 서버가 304 응답에 검증자를 다시 보내지 않는 경우가 많으므로 값이 있을 때만 덮어씀
+     */
+    public void updateValidators(String etag, String lastModified) {
+        if (StringUtils.hasText(etag)) {
+            this.etag = etag;
+        }
+        if (StringUtils.hasText(lastModified)) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * 마지막으로 처리에 성공한 본문의 지문 갱신
+     */
+    public void updateBodyFingerprint(Long bodyFingerprint) {
+        if (bodyFingerprint != null) {
+            this.bodyFingerprint = bodyFingerprint;
+        }
+    }
+
+    /**
+     * 본문 파싱에 사용한 문자셋 기억
+     * 헤더와 XML 선언이 모두 없는 피드에서 다음 수집 시 추정 과정을 생략하기 위해 사용
+     */
+    public void updateCharset(String charset) {
+        if (StringUtils.hasText(charset)) {
+            this.charset = charset;
+        }
+    }
+
+    public void markOversized(boolean oversized) {
+        this.oversized = oversized;
+    }
+
+    public boolean isOversized() {
+        return Boolean.TRUE.equals(oversized);
+    }
+
+    public void recordFetch(LocalDateTime fetchedAt) {
+        this.lastFetchedAt = fetchedAt;
+    }
+
+    /**
+     * 수집 성공 기록 (연속 실패 횟수 초기화)
+     */
+    public void recordSuccess(LocalDateTime succeededAt) {
+        this.consecutiveFailures = 0;
+        this.lastError = null;
+        this.lastSuccessAt = succeededAt;
+    }
+
+    /**
+     * 수집 실패 기록
+     *
+     * @return 이번 실패를 포함한 연속 실패 횟수
+     */
+    public int recordFailure(String error) {
+        this.consecutiveFailures = getConsecutiveFailures() + 1;
+        this.lastError = error;
+        return consecutiveFailures;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures != null ? consecutiveFailures : 0;
+    }
+
+    /**
+     * 학습된 간격은 유지한 채 다음 폴링 시각만 미룸 (실패 후 재시도 등)
+     */
+    public void deferNextPoll(LocalDateTime nextPollAt) {
+        this.nextPollAt = nextPollAt;
+    }
+
+    /**
+     * 다음 폴링 시각 예약
+     */
+    public void scheduleNextPoll(Duration pollInterval, LocalDateTime from) {
+        this.pollIntervalSeconds = pollInterval.toSeconds();
+        this.nextPollAt = from.plus(pollInterval);
+    }
+
+    // 학습된 폴링 간격 (아직 없으면 null)
+    public Duration getPollInterval() {
+        return pollIntervalSeconds != null ? Duration.ofSeconds(pollIntervalSeconds) : null;
+    }
+
+    /**
+     * 이미 처리한 항목을 판별하는 기준(워터마크) 갱신
+     */
+    public void updateEntryWatermark(LocalDateTime newestEntryAt, String recentEntryKeys) {
+        this.newestEntryAt = newestEntryAt;
+        this.recentEntryKeys = recentEntryKeys;
+    }
+
+    /**
+     * 다음 수집 결과를 알림 없이 이미 본 항목으로만 기록하도록 요청
+     * 새로 등록되었거나 보관 후 다시 구독된 피드가 예전 글을 한꺼번에 보내지 않도록 사용
+     */
+    public void requestBaseline() {
+        this.baselinePending = true;
+    }
+
+    public void completeBaseline() {
+        this.baselinePending = null;
+    }
+
+    public boolean isBaselinePending() {
+        return Boolean.TRUE.equals(baselinePending);
+    }
+
+    public boolean hasValidators() {
+        return StringUtils.hasText(etag) || StringUtils.hasText(lastModified);
+    }
+
+}
@@ -1,10 +1,15 @@
 package com.feedping.domain;
 
+import com.feedping.rss.FeedUrls;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +18,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = @Index(name = "idx_rss_feed_canonical_url", columnList = "canonical_url"))
 public class RssFeed {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,10 +28,59 @@ public class RssFeed {
     @Column(nullable = false, unique = true, length = 4096)
     private String url;
 
+    // 같은 피드의 다른 표기(스킴, www, 끝 슬래시, 추적 파라미터 등)를 하나로 모은 주소 (중복 피드 판별용)
+    @Column(name = "canonical_url", length = 4096)
+    private String canonicalUrl;
+
+    @Embedded
+    private FeedFetchState fetchState = new FeedFetchState();
+
+    // 마지막 구독자가 떠난 시각 (보관 기간이 지나면 삭제, 다시 구독하면 null)
+    private LocalDateTime orphanedAt;
+
     @Builder
     public RssFeed(Long id, String url) {
         this.id = id;
         this.url = url;
+        this.canonicalUrl = url != null ? FeedUrls.canonicalize(url) : null;
+    }
+
+    // 영구 리다이렉트로 옮겨간 주소 반영
+    public void changeUrl(String url) {
+        this.url = url;
+        refreshCanonicalUrl();
+    }
+
+    // 현재 주소로 정규화 주소 갱신 (정규화 주소가 없던 기존 피드 포함)
+    public void refreshCanonicalUrl() {
+        this.canonicalUrl = FeedUrls.canonicalize(url);
+    }
+
+    // 구독자가 모두 떠나 폴링 대상에서 제외
+    public void markOrphaned(LocalDateTime now) {
+        if (orphanedAt == null) {
+            orphanedAt = now;
+        }
+    }
+
+    // 다시 구독되어 폴링 대상으로 복귀 (보관 중 쌓인 글은 알림 없이 기준으로만 기록)
+    public void adopt() {
+        if (orphanedAt != null) {
+            getFetchState().requestBaseline();
+        }
+        this.orphanedAt = null;
+    }
+
+    public boolean isOrphaned() {
+        return orphanedAt != null;
+    }
+
+    // 모든 컬럼이 null이면 Hibernate가 임베디드 값을 null로 로드하므로 빈 상태로 대체
+    public FeedFetchState getFetchState() {
+        if (fetchState == null) {
+            fetchState = new FeedFetchState();
+        }
+        return fetchState;
     }
 
 }
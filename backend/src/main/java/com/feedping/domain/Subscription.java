@@ -38,4 +38,9 @@ public class Subscription extends BaseTimeEntity {
         this.siteName = siteName;
     }
 
+    // 같은 피드로 확인된 다른 피드에 구독 이전
+    public void changeRssFeed(RssFeed rssFeed) {
+        this.rssFeed = rssFeed;
+    }
+
 }
@@ -0,0 +1,7 @@
+package com.feedping.domain;
+
+public enum WebSubStatus {
+    PENDING,    // 허브에 구독 요청 후 확인 대기
+    ACTIVE,     // 허브가 구독을 확인함 (푸시 수신 중)
+    EXPIRED     // 임대 기간 만료 또는 허브가 구독을 해지함 (폴링으로 복귀)
+}
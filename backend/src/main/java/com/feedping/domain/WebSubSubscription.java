@@ -0,0 +1,115 @@
+package com.feedping.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피드별 WebSub(PubSubHubbub) 구독
+ * 허브가 새 글을 푸시하는 동안에는 해당 피드를 폴링하지 않음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class WebSubSubscription extends BaseTimeEntity {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rss_feed_id", nullable = false, unique = true)
+    private RssFeed rssFeed;
+
+    @Column(nullable = false, length = 2048)
+    private String hubUrl;
+
+    @Column(nullable = false, length = 4096)
+    private String topicUrl;
+
+    // 허브가 푸시 본문 서명에 사용하는 비밀 값
+    @Column(nullable = false, length = 64)
+    private String secret;
+
+    // 콜백 주소에 사용하는 추측할 수 없는 식별 값 (DB ID를 노출하지 않도록)
+    @Column(nullable = false, unique = true, length = 64)
+    private String callbackToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebSubStatus status;
+
+    private LocalDateTime requestedAt;
+
+    // 구독(갱신) 요청을 보낸 뒤 허브의 확인을 기다리는 중인지 여부
+    @Column(nullable = false)
+    private boolean awaitingVerification;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Builder
+    public WebSubSubscription(Long id, RssFeed rssFeed, String hubUrl, String topicUrl, String secret,
+                              String callbackToken) {
+        this.id = id;
+        this.rssFeed = rssFeed;
+        this.hubUrl = hubUrl;
+        this.topicUrl = topicUrl;
+        this.secret = secret;
+        this.callbackToken = callbackToken;
+        this.status = WebSubStatus.PENDING;
+    }
+
+    /**
+     * 허브에 구독(갱신) 요청을 보냄
+     * 허브나 주소가 바뀐 경우 새 값으로 다시 요청
+     */
+    public void request(String hubUrl, String topicUrl, LocalDateTime requestedAt) {
+        this.hubUrl = hubUrl;
+        this.topicUrl = topicUrl;
+        this.requestedAt = requestedAt;
+        this.awaitingVerification = true;
+        if (status != WebSubStatus.ACTIVE) {
+            this.status = WebSubStatus.PENDING;
+        }
+    }
+
+    /**
+     * 허브의 구독 확인 요청 수락
+     */
+    public void activate(LocalDateTime leaseExpiresAt) {
+        this.status = WebSubStatus.ACTIVE;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.awaitingVerification = false;
+    }
+
+    public void expire() {
+        this.status = WebSubStatus.EXPIRED;
+        this.leaseExpiresAt = null;
+        this.awaitingVerification = false;
+    }
+
+    /**
+     * since 이후에 보낸 구독(갱신) 요청이 아직 확인되지 않았는지 여부
+     * 확인을 기다리는 요청이 없으면 허브의 확인 요청을 받아들이지 않음
+     */
+    public boolean isAwaitingVerification(LocalDateTime since) {
+        return awaitingVerification && requestedAt != null && !requestedAt.isBefore(since);
+    }
+
+    public boolean isActive(LocalDateTime now) {
+        return status == WebSubStatus.ACTIVE && leaseExpiresAt != null && leaseExpiresAt.isAfter(now);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.feedping.dto;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 피드 수집 결과
+ * 304 Not Modified 여부와 다음 조건부 요청에 사용할 검증자를 함께 전달
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class FeedFetchResult {
+
+    private final boolean notModified;
+    private final boolean unchanged;       // 200 응답이지만 본문 지문이 이전 수집과 같음
+    private final List<RssItemDto> items;
+    private final String etag;
+    private final String lastModified;
+    private final Long bodyFingerprint;
+    private final String charset;         // 본문 파싱에 사용한 문자셋 (다음 수집 시 재사용)
+    private final boolean truncated;      // 본문 크기 한도에 걸려 일부 항목만 읽음
+    private final String hubUrl;          // 피드가 알린 WebSub 허브 (없으면 null)
+    private final String topicUrl;        // 허브에 구독할 피드 주소 (rel="self")
+    private final String movedTo;         // 영구 리다이렉트(301/308)로 알려진 새 주소 (없으면 null)
+
+    public static FeedFetchResult notModified(String etag, String lastModified) {
+        return new FeedFetchResult(true, false, Collections.emptyList(), etag, lastModified, null, null, false,
+                null, null, null);
+    }
+
+    public static FeedFetchResult unchanged(String etag, String lastModified, long bodyFingerprint,
+                                            String charset) {
+        return new FeedFetchResult(false, true, Collections.emptyList(), etag, lastModified, bodyFingerprint,
+                charset, false, null, null, null);
+    }
+
+    public static FeedFetchResult modified(List<RssItemDto> items, String etag, String lastModified) {
+        return new FeedFetchResult(false, false, items, etag, lastModified, null, null, false, null, null, null);
+    }
+
+    public static FeedFetchResult modified(List<RssItemDto> items, String etag, String lastModified,
+                                           Long bodyFingerprint, String charset) {
+        return new FeedFetchResult(false, false, items, etag, lastModified, bodyFingerprint, charset, false,
+                null, null, null);
+    }
+
+    public static FeedFetchResult truncated(List<RssItemDto> items, String etag, String lastModified,
+                                            String charset) {
+        return new FeedFetchResult(false, false, items, etag, lastModified, null, charset, true, null, null, null);
+    }
+
+    // 피드 본문 또는 Link 헤더에서 발견한 WebSub 허브 정보 추가
+    public FeedFetchResult withHub(String hubUrl, String topicUrl) {
+        return new FeedFetchResult(notModified, unchanged, items, etag, lastModified, bodyFingerprint, charset,
+                truncated, hubUrl, topicUrl, movedTo);
+    }
+
+    // 요청 중 따라간 영구 리다이렉트의 최종 주소 추가
+    public FeedFetchResult withMovedTo(String movedTo) {
+        return new FeedFetchResult(notModified, unchanged, items, etag, lastModified, bodyFingerprint, charset,
+                truncated, hubUrl, topicUrl, movedTo);
+    }
+
+    // 새로 파싱한 내용이 있는지 여부 (304 또는 본문 동일 시 false)
+    public boolean isContentChanged() {
+        return !notModified && !unchanged;
+    }
+
+}
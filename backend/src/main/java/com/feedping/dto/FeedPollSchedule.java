@@ -0,0 +1,15 @@
+package com.feedping.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FeedPollSchedule {
+
+    private Long rssFeedId;
+    private String url;
+    private LocalDateTime nextPollAt;
+
+}
@@ -18,23 +18,27 @@ public class RssItemDto {
     private LocalDateTime publishedAt;  // <pubDate>
 
     public static RssItemDto from(SyndEntry entry) {
-        String description = Optional.ofNullable(entry.getDescription())
-                .map(SyndContent::getValue)
-                .orElse("");
-
-        // 설명이 최대 길이를 초과하면 자르고 "..." 추가
-        if (description.length() > 200) {
-            description = description.substring(0, 200) + "...";
-        }
-
-        return new RssItemDto(
+        return of(
                 entry.getTitle(),
                 entry.getLink(),
-                description,
+                Optional.ofNullable(entry.getDescription())
+                        .map(SyndContent::getValue)
+                        .orElse(null),
                 Optional.ofNullable(entry.getPublishedDate())
                         .map(date -> date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
                         .orElse(null)
         );
     }
 
+    public static RssItemDto of(String title, String link, String description, LocalDateTime publishedAt) {
+        description = description != null ? description : "";
+
+        // 설명이 최대 길이를 초과하면 자르고 "..." 추가
+        if (description.length() > 200) {
+            description = description.substring(0, 200) + "...";
+        }
+
+        return new RssItemDto(title, link, description, publishedAt);
+    }
+
 }
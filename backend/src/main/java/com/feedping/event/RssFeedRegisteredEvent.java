@@ -0,0 +1,16 @@
+package com.feedping.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 새 RSS 피드 등록 이벤트
+ * 트랜잭션 완료 후 폴링 스케줄에 피드를 추가하기 위한 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class RssFeedRegisteredEvent {
+
+    private final Long rssFeedId;
+
+}
@@ -2,6 +2,8 @@ package com.feedping.exception;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.CONTENT_TOO_LARGE;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
@@ -20,6 +22,7 @@ public enum ErrorCode {
     NOT_FOUND_MEMBER("사용자를 찾을 수 없습니다.", NOT_FOUND),
     NOT_FOUND_RSS_FEED("존재하지 않는 RSS Feed입니다.", NOT_FOUND),
     SUBSCRIPTION_NOT_FOUND("구독 정보를 찾을 수 없습니다.", NOT_FOUND),
+    WEBSUB_SUBSCRIPTION_NOT_FOUND("WebSub 구독 정보를 찾을 수 없습니다.", NOT_FOUND),
 
     // 중복/충돌 관련
     ALREADY_SUBSCRIBED_RSS("이미 구독한 RSS Feed입니다.", CONFLICT),
@@ -36,7 +39,12 @@ public enum ErrorCode {
 
     // RSS 관련
     RSS_FEED_CONNECTION_ERROR("RSS 피드 서버에 연결할 수 없습니다.", SERVICE_UNAVAILABLE),
-    RSS_FEED_INVALID_FORMAT("잘못된 RSS 피드 형식입니다.", BAD_REQUEST);
+    RSS_FEED_RATE_LIMITED("RSS 피드 서버의 요청 제한으로 잠시 후 다시 시도해야 합니다.", TOO_MANY_REQUESTS),
+    RSS_FEED_INVALID_FORMAT("잘못된 RSS 피드 형식입니다.", BAD_REQUEST),
+    RSS_FEED_TOO_LARGE("RSS 피드 크기가 허용 한도를 초과했습니다.", CONTENT_TOO_LARGE),
+    RSS_FEED_SYNC_TIMEOUT("RSS 피드 동기화가 마감 시간을 넘겨 중단되었습니다.", GATEWAY_TIMEOUT),
+    INVALID_WEBSUB_REQUEST("잘못된 WebSub 요청입니다.", BAD_REQUEST),
+    WEBSUB_FEED_SYNCING("피드를 동기화 중이므로 잠시 후 다시 전달해야 합니다.", SERVICE_UNAVAILABLE);
 
     private final String message;
     private final HttpStatus status;
@@ -0,0 +1,20 @@
+package com.feedping.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 피드 서버가 요청 제한(429 Too Many Requests, 503 Service Unavailable)으로 응답한 경우
+ * 서버가 Retry-After 헤더로 알려준 대기 시간을 함께 전달
+ */
+@Getter
+public class RssFetchThrottledException extends GlobalException {
+
+    private final Duration retryAfter;  // Retry-After 헤더가 없으면 null
+
+    public RssFetchThrottledException(String detail, Duration retryAfter) {
+        super(ErrorCode.RSS_FEED_RATE_LIMITED, detail);
+        this.retryAfter = retryAfter;
+    }
+
+}
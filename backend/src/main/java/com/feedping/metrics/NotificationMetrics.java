@@ -1,6 +1,7 @@
 package com.feedping.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -8,7 +9,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,6 +27,15 @@ public class NotificationMetrics {
     private final Counter feedsProcessedCounter;
     private final Counter taskRejectedCounter;
 
+    // 피드 조건부 요청 관련 카운터
+    private final Counter feedsModifiedCounter;
+    private final Counter feedsNotModifiedCounter;
+    private final Counter feedsSkippedUnchangedCounter;
+
+    // 피드 HTTP 요청 관련 메트릭
+    private final AtomicInteger feedFetchesInFlight;
+    private final Timer feedFetchTimer;
+
     // 새로운 우선순위 관련 게이지
     private final Map<String, AtomicInteger> priorityQueueSizes;
     private final AtomicInteger totalQueueSize;
@@ -113,6 +125,36 @@ public class NotificationMetrics {
                 .description("큐 포화로 거부된 작업 건수")
                 .register(registry);
 
+        // 피드 조건부 요청 결과 카운터 (변경됨 / 304 Not Modified)
+        this.feedsModifiedCounter = Counter.builder("feedping.feeds.fetched")
+                .tag("result", "modified")
+                .description("조건부 요청 결과별 RSS 피드 수집 건수")
+                .register(registry);
+
+        this.feedsNotModifiedCounter = Counter.builder("feedping.feeds.fetched")
+                .tag("result", "not_modified")
+                .description("조건부 요청 결과별 RSS 피드 수집 건수")
+                .register(registry);
+
+        this.feedsSkippedUnchangedCounter = Counter.builder("feedping.feeds.skipped_unchanged")
+                .description("본문 지문이 이전 수집과 같아 처리를 건너뛴 RSS 피드 건수")
+                .register(registry);
+
+        Gauge.builder("feedping.feeds.not_modified.ratio", this, NotificationMetrics::getFeedNotModifiedRatio)
+                .description("전체 피드 수집 중 304 Not Modified 응답 비율")
+                .register(registry);
+
+        // 피드 HTTP 요청 게이지 / 타이머
+        this.feedFetchesInFlight = new AtomicInteger(0);
+        Gauge.builder("feedping.feeds.http.in_flight", feedFetchesInFlight, AtomicInteger::get)
+                .description("진행 중인 피드 HTTP 요청 수")
+                .register(registry);
+
+        this.feedFetchTimer = Timer.builder("feedping.feeds.http.duration")
+                .description("피드 HTTP 요청부터 본문 수신 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+
         // 우선순위 관련 게이지 초기화
         this.priorityQueueSizes = new ConcurrentHashMap<>();
         this.priorityQueueSizes.put("high", new AtomicInteger(0));
@@ -326,6 +368,151 @@ public class NotificationMetrics {
                 .increment();
     }
 
+    // RSS 피드 수집 결과: 변경된 본문 수신
+    public void recordFeedModified() {
+        feedsModifiedCounter.increment();
+    }
+
+    // RSS 피드 수집 결과: 304 Not Modified
+    public void recordFeedNotModified() {
+        feedsNotModifiedCounter.increment();
+    }
+
+    // RSS 피드 수집 결과: 200 응답이지만 본문이 이전과 같아 처리 생략
+    public void recordFeedSkippedUnchanged() {
+        feedsSkippedUnchangedCounter.increment();
+    }
+
+    // 피드 HTTP 요청 시작
+    public void incrementFeedFetchesInFlight() {
+        feedFetchesInFlight.incrementAndGet();
+    }
+
+    // 피드 HTTP 요청 종료 (성공 / 실패 무관)
+    public void decrementFeedFetchesInFlight(long elapsedNanos) {
+        feedFetchesInFlight.decrementAndGet();
+        feedFetchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 본문 크기 한도를 넘어 전송을 중단한 피드
+    public void recordFeedOversized() {
+        Counter.builder("feedping.feeds.oversized")
+                .description("본문 크기 한도를 넘어 수집을 중단한 RSS 피드 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // WebSub 푸시 수신 (accepted / rejected / ignored / deferred)
+    public void recordWebSubNotification(String result) {
+        Counter.builder("feedping.websub.notifications")
+                .tag("result", result)
+                .description("처리 결과별 WebSub 푸시 수신 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // 연속 실패로 차단된 피드
+    public void recordFeedCircuitOpened() {
+        Counter.builder("feedping.feeds.circuit_opened")
+                .description("연속 실패로 차단되어 드물게만 확인하는 RSS 피드 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // 수집 결과 공유 (hit / negative_hit / joined / miss)
+    public void recordFeedFetchCache(String outcome) {
+        Counter.builder("feedping.feeds.fetch_cache")
+                .tag("outcome", outcome)
+                .description("같은 URL 수집 결과 재사용 및 동시 요청 합류 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // 피드 요청 한 번에 따라간 리다이렉트 수
+    public void recordFeedRedirectHops(int hops) {
+        DistributionSummary.builder("feedping.feeds.http.redirect_hops")
+                .description("피드 요청당 리다이렉트 횟수")
+                .register(registry)
+                .record(hops);
+    }
+
+    // 영구 이동을 반영하여 주소를 바꾸거나 기존 피드와 합친 건수 (result: relocated / merged)
+    public void recordFeedRelocated(String result) {
+        Counter.builder("feedping.feeds.relocated")
+                .tag("result", result)
+                .description("영구 리다이렉트를 학습하여 주소를 변경한 RSS 피드 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // 피드 HTTP 요청 시간 초과 (connect / read / total)
+    public void recordFeedFetchTimeout(String phase) {
+        Counter.builder("feedping.feeds.http.timeouts")
+                .tag("phase", phase)
+                .description("단계별 피드 HTTP 요청 시간 초과 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // 동기화 사이클 시작부터 마지막 피드 완료까지의 실제 소요 시간
+    public void recordFeedSyncCycle(Duration elapsed) {
+        Timer.builder("feedping.feeds.sync.cycle.time")
+                .description("동기화 사이클에서 시작한 피드가 모두 끝날 때까지의 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(elapsed);
+    }
+
+    // 마감 시간을 넘겨 중단한 피드 (중단 시점의 파이프라인 단계별)
+    public void recordFeedSyncTimeout(String stage) {
+        Counter.builder("feedping.feeds.sync.timeouts")
+                .tag("stage", stage)
+                .description("마감 시간을 넘겨 중단한 RSS 피드 동기화 건수")
+                .register(registry)
+                .increment();
+    }
+
+    // 동기화 파이프라인 단계별 대기 중 + 처리 중인 피드 수 (stage: fetch / persist)
+    public void registerFeedPipelineDepth(String stage, Supplier<Number> depth) {
+        Gauge.builder("feedping.feeds.pipeline.depth", depth)
+                .tag("stage", stage)
+                .description("동기화 파이프라인 단계별 대기 및 처리 중인 피드 수")
+                .register(registry);
+    }
+
+    // 동기화 파이프라인 단계 진입부터 완료까지 걸린 시간 (단계 대기 포함)
+    public void recordFeedPipelineLatency(String stage, long elapsedNanos) {
+        Timer.builder("feedping.feeds.pipeline.latency")
+                .tag("stage", stage)
+                .description("동기화 파이프라인 단계별 소요 시간 (대기 포함)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 처리량을 넘어 다음 사이클로 미룬 영향이 작은 피드
+    public void recordFeedsDeferred(int count) {
+        Counter.builder("feedping.feeds.sync.deferred")
+                .description("동기화 처리량을 넘어 수집을 미룬 RSS 피드 건수")
+                .register(registry)
+                .increment(count);
+    }
+
+    // 워터마크로 저장소 조회 없이 걸러낸 이미 처리한 항목 수
+    public void recordFeedEntriesKnown(int count) {
+        Counter.builder("feedping.feeds.entries.known")
+                .description("워터마크로 저장소 조회 없이 걸러낸 이미 처리한 RSS 항목 건수")
+                .register(registry)
+                .increment(count);
+    }
+
+    // 304 Not Modified 응답 비율 조회
+    public double getFeedNotModifiedRatio() {
+        double notModified = feedsNotModifiedCounter.count();
+        double total = notModified + feedsModifiedCounter.count();
+        return total == 0 ? 0.0 : notModified / total;
+    }
+
     // 알림 처리 시간 측정 (우선순위별)
     public void recordProcessingTime(String priority, long milliseconds) {
         Timer timer = notificationProcessingTimers.getOrDefault(
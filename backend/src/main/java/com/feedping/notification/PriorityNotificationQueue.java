@@ -113,7 +113,8 @@ public class PriorityNotificationQueue {
         return sizes;
     }
 
-    private Priority calculatePriority(Long rssFeedId) {
+    // 구독자 수 기준 피드 우선순위 (피드 수집 순서에도 사용)
+    public Priority calculatePriority(Long rssFeedId) {
         int subscriberCount = feedSubscriberCountCache.getOrDefault(rssFeedId, 0);
 
         if (subscriberCount >= 100) {
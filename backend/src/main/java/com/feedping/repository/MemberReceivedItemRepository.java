@@ -2,11 +2,20 @@ package com.feedping.repository;
 
 import com.feedping.domain.Member;
 import com.feedping.domain.MemberReceivedItem;
+import com.feedping.domain.RssFeed;
 import com.feedping.domain.RssItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberReceivedItemRepository extends JpaRepository<MemberReceivedItem, Long> {
 
     boolean existsByMemberAndRssItem(Member member, RssItem rssItem);
 
+    @Modifying
+    @Query("DELETE FROM MemberReceivedItem r " +
+            "WHERE r.rssItem.id IN (SELECT i.id FROM RssItem i WHERE i.rssFeed = :rssFeed)")
+    int deleteByRssFeed(@Param("rssFeed") RssFeed rssFeed);
+
 }
@@ -1,11 +1,69 @@
 package com.feedping.repository;
 
 import com.feedping.domain.RssFeed;
+import com.feedping.dto.FeedPollSchedule;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RssFeedRepository extends JpaRepository<RssFeed, Long> {
 
     Optional<RssFeed> findByUrl(String url);
 
+    // 같은 정규화 주소의 피드 (병합 전 중복이 있으면 가장 먼저 등록된 피드)
+    Optional<RssFeed> findFirstByCanonicalUrlOrderByIdAsc(String canonicalUrl);
+
+    List<RssFeed> findByCanonicalUrlOrderByIdAsc(String canonicalUrl);
+
+    // 정규화 주소가 아직 없는 기존 피드
+    List<RssFeed> findByCanonicalUrlIsNull(Pageable pageable);
+
+    // 피드가 둘 이상인 정규화 주소 (같은 피드가 다른 표기로 중복 등록된 경우)
+    @Query("SELECT f.canonicalUrl FROM RssFeed f WHERE f.canonicalUrl IS NOT NULL " +
+            "GROUP BY f.canonicalUrl HAVING COUNT(f) > 1")
+    List<String> findDuplicateCanonicalUrls(Pageable pageable);
+
+    /**
+     * 구독자가 있는 피드의 폴링 정보를 ID 순으로 나눠 조회 (afterId 다음부터)
+     * 엔티티를 로드하지 않고 필요한 컬럼만 읽음
+     */
+    @Query("SELECT new com.feedping.dto.FeedPollSchedule(f.id, f.url, f.fetchState.nextPollAt) FROM RssFeed f " +
+            "WHERE f.id > :afterId AND f.orphanedAt IS NULL " +
+            "AND EXISTS (SELECT s.id FROM Subscription s WHERE s.rssFeed = f) " +
+            "ORDER BY f.id")
+    List<FeedPollSchedule> findPollSchedulesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 구독자가 없는데 아직 표시되지 않은 피드를 보관 대상으로 표시 (구독 이전 / 병합 등으로 구독이 빠진 경우 포함)
+    @Modifying
+    @Query("UPDATE RssFeed f SET f.orphanedAt = :now WHERE f.orphanedAt IS NULL " +
+            "AND NOT EXISTS (SELECT s.id FROM Subscription s WHERE s.rssFeed = f)")
+    int markOrphans(@Param("now") LocalDateTime now);
+
+    // 허브가 푸시한 항목의 워터마크만 갱신 (동시에 실행 중인 수집이 쓴 다른 수집 상태와 보관 표시를 덮어쓰지 않도록)
+    @Transactional
+    @Modifying
+    @Query("UPDATE RssFeed f SET f.fetchState.newestEntryAt = :newestEntryAt, " +
+            "f.fetchState.recentEntryKeys = :recentEntryKeys, f.fetchState.baselinePending = :baselinePending " +
+            "WHERE f.id = :id")
+    int updateEntryWatermark(@Param("id") Long id, @Param("newestEntryAt") LocalDateTime newestEntryAt,
+                             @Param("recentEntryKeys") String recentEntryKeys,
+                             @Param("baselinePending") Boolean baselinePending);
+
+    // 다음 폴링 시각만 갱신 (WebSub 구독 확인 등 수집 밖에서 폴링을 미루는 경우)
+    @Transactional
+    @Modifying
+    @Query("UPDATE RssFeed f SET f.fetchState.nextPollAt = :nextPollAt WHERE f.id = :id")
+    int updateNextPollAt(@Param("id") Long id, @Param("nextPollAt") LocalDateTime nextPollAt);
+
+    // 보관 기간이 지났고 그 사이 다시 구독되지 않은 피드
+    @Query("SELECT f FROM RssFeed f WHERE f.orphanedAt < :cutoff " +
+            "AND NOT EXISTS (SELECT s.id FROM Subscription s WHERE s.rssFeed = f) ORDER BY f.id")
+    List<RssFeed> findExpiredOrphans(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
 }
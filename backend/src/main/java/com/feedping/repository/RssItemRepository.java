@@ -1,11 +1,28 @@
 package com.feedping.repository;
 
+import com.feedping.domain.RssFeed;
 import com.feedping.domain.RssItem;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RssItemRepository extends JpaRepository<RssItem, Long> {
 
     Optional<RssItem> findByLink(String link);
 
+    @Query("SELECT i.link FROM RssItem i WHERE i.link IN :links")
+    List<String> findLinksByLinkIn(@Param("links") Collection<String> links);
+
+    @Modifying
+    @Query("UPDATE RssItem i SET i.rssFeed = :target WHERE i.rssFeed = :source")
+    int moveItems(@Param("source") RssFeed source, @Param("target") RssFeed target);
+
+    @Modifying
+    @Query("DELETE FROM RssItem i WHERE i.rssFeed = :rssFeed")
+    int deleteByRssFeed(@Param("rssFeed") RssFeed rssFeed);
+
 }
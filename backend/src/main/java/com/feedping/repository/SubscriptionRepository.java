@@ -16,6 +16,8 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
 
     boolean existsByMemberAndRssFeed(Member member, RssFeed rssFeed);
 
+    boolean existsByRssFeed(RssFeed rssFeed);
+
     Page<Subscription> findByMember(Member member, Pageable pageable);
 
     Optional<Subscription> findByMemberAndRssFeed(Member member, RssFeed rssFeed);
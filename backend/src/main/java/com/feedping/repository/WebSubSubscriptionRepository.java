@@ -0,0 +1,22 @@
+package com.feedping.repository;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.domain.WebSubStatus;
+import com.feedping.domain.WebSubSubscription;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WebSubSubscriptionRepository extends JpaRepository<WebSubSubscription, Long> {
+
+    Optional<WebSubSubscription> findByRssFeed(RssFeed rssFeed);
+
+    @EntityGraph(attributePaths = {"rssFeed"})
+    Optional<WebSubSubscription> findWithRssFeedByCallbackToken(String callbackToken);
+
+    @EntityGraph(attributePaths = {"rssFeed"})
+    List<WebSubSubscription> findByStatusAndLeaseExpiresAtBefore(WebSubStatus status, LocalDateTime threshold);
+
+}
@@ -0,0 +1,33 @@
+package com.feedping.rss;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.util.StringUtils;
+
+/**
+ * 압축된 응답 본문 해제
+ * JDK HttpClient는 Content-Encoding을 자동으로 처리하지 않으므로 직접 해제
+ */
+public final class ContentEncodings {
+
+    // 요청 시 보낼 Accept-Encoding 값
+    public static final String ACCEPTED = "gzip, deflate";
+
+    private ContentEncodings() {
+    }
+
+    public static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (!StringUtils.hasText(contentEncoding)) {
+            return body;
+        }
+
+        return switch (contentEncoding.trim().toLowerCase()) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+}
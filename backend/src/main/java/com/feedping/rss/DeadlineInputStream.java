@@ -0,0 +1,90 @@
+package com.feedping.rss;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 제한 시간이 지나면 읽기를 중단시키는 입력 스트림
+ * 서버가 본문을 조금씩 흘려보내거나 중간에 멈춰도 수집 작업이 무한정 붙잡히지 않도록 함
+ */
+public class DeadlineInputStream extends FilterInputStream {
+
+    // 제한 시간 도달 시 스트림을 닫는 감시용 스레드 (모든 수집 요청이 공유)
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("feed-fetch-deadline").daemon().factory());
+
+    private final long deadlineNanos;
+    private final ScheduledFuture<?> watchdog;
+    private volatile boolean expired;
+
+    public DeadlineInputStream(InputStream in, Duration remaining) {
+        super(in);
+        this.deadlineNanos = System.nanoTime() + remaining.toNanos();
+        this.watchdog = WATCHDOG.schedule(this::expire, Math.max(0, remaining.toNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkDeadline();
+        try {
+            return super.read();
+        } catch (IOException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkDeadline();
+        try {
+            return super.read(b, off, len);
+        } catch (IOException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchdog.cancel(false);
+        super.close();
+    }
+
+    private void expire() {
+        expired = true;
+        try {
+            // 블로킹 중인 읽기를 깨우기 위해 하위 스트림을 닫음
+            in.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 경우 무시
+        }
+    }
+
+    private void checkDeadline() throws HttpTimeoutException {
+        if (expired || System.nanoTime() - deadlineNanos > 0) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    // 감시 스레드가 스트림을 닫아 발생한 오류는 시간 초과로 변환
+    private IOException translate(IOException e) {
+        return expired ? new DeadlineExceededException() : e;
+    }
+
+    /**
+     * 전체 제한 시간 초과 (응답 헤더 수신 제한 시간 초과와 구분하기 위해 별도 타입 사용)
+     */
+    public static class DeadlineExceededException extends HttpTimeoutException {
+
+        public DeadlineExceededException() {
+            super("피드 본문 수신 제한 시간 초과");
+        }
+    }
+
+}
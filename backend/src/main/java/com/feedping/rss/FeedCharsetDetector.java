@@ -0,0 +1,150 @@
+package com.feedping.rss;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드 본문 문자셋 판별
+ * BOM → Content-Type → XML 선언 → 이전 수집 결과 순으로 확인하고,
+ * 모두 없을 때만 본문 앞부분으로 추정
+ */
+@Slf4j
+public final class FeedCharsetDetector {
+
+    // 국내 피드에서 XML 선언 없이 자주 쓰이는 레거시 인코딩 (EUC-KR 상위 호환)
+    private static final Charset KOREAN_LEGACY = Charset.forName("MS949");
+
+    private static final Pattern XML_ENCODING = Pattern.compile(
+            "^\\s*<\\?xml[^>]*?encoding\\s*=\\s*[\"']([A-Za-z0-9._:-]+)[\"']");
+
+    // XML 선언은 문서 맨 앞에 있으므로 앞부분만 확인
+    private static final int XML_DECLARATION_MAX_LENGTH = 256;
+
+    private FeedCharsetDetector() {
+    }
+
+    /**
+     * 문자셋 판별
+     *
+     * @param prefix             본문 앞부분
+     * @param contentTypeCharset Content-Type 헤더의 charset 파라미터 (없으면 null)
+     * @param cachedCharset      이전 수집에서 판별한 문자셋 (없으면 null)
+     */
+    public static Charset detect(byte[] prefix, String contentTypeCharset, String cachedCharset) {
+        Charset charset = fromBom(prefix);
+        if (charset != null) {
+            return charset;
+        }
+
+        charset = forName(contentTypeCharset);
+        if (charset != null) {
+            return charset;
+        }
+
+        charset = fromXmlDeclaration(prefix);
+        if (charset != null) {
+            return charset;
+        }
+
+        charset = forName(cachedCharset);
+        if (charset != null) {
+            return charset;
+        }
+
+        charset = guess(prefix);
+        log.debug("문자셋 추정 결과: {}", charset.name());
+        return charset;
+    }
+
+    private static Charset fromBom(byte[] prefix) {
+        if (startsWith(prefix, 0xEF, 0xBB, 0xBF)) {
+            return StandardCharsets.UTF_8;
+        }
+        if (startsWith(prefix, 0xFE, 0xFF)) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (startsWith(prefix, 0xFF, 0xFE)) {
+            return StandardCharsets.UTF_16LE;
+        }
+        // BOM 없는 UTF-16: 첫 글자 '<'의 바이트 배치로 판별
+        if (startsWith(prefix, 0x00, 0x3C)) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (startsWith(prefix, 0x3C, 0x00)) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return null;
+    }
+
+    private static Charset fromXmlDeclaration(byte[] prefix) {
+        // 선언부는 ASCII 범위이므로 ISO-8859-1로 읽어도 안전
+        String head = new String(prefix, 0, Math.min(prefix.length, XML_DECLARATION_MAX_LENGTH),
+                StandardCharsets.ISO_8859_1);
+        Matcher matcher = XML_ENCODING.matcher(head);
+        return matcher.find() ? forName(matcher.group(1)) : null;
+    }
+
+    /**
+     * 앞부분이 올바른 UTF-8이면 UTF-8, 아니면 한국어 레거시 인코딩, 그것도 아니면 ISO-8859-1
+     */
+    private static Charset guess(byte[] prefix) {
+        if (decodes(prefix, StandardCharsets.UTF_8)) {
+            return StandardCharsets.UTF_8;
+        }
+        if (decodes(prefix, KOREAN_LEGACY)) {
+            return KOREAN_LEGACY;
+        }
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    private static boolean decodes(byte[] prefix, Charset charset) {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        // 앞부분을 잘라 읽었으므로 마지막 글자가 중간에 끊긴 경우는 허용
+        for (int trim = 0; trim < 4 && trim < prefix.length; trim++) {
+            try {
+                decoder.reset().decode(ByteBuffer.wrap(prefix, 0, prefix.length - trim));
+                return true;
+            } catch (CharacterCodingException e) {
+                // 끝부분을 한 바이트 줄여 재시도
+            }
+        }
+        return false;
+    }
+
+    private static Charset forName(String name) {
+        if (!StringUtils.hasText(name)) {
+            return null;
+        }
+        try {
+            return Charset.forName(name.trim());
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            log.debug("지원하지 않는 문자셋 이름: {}", name);
+            return null;
+        }
+    }
+
+    private static boolean startsWith(byte[] prefix, int... bytes) {
+        if (prefix.length < bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if ((prefix[i] & 0xFF) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.feedping.rss;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드 날짜 해석
+ * RSS의 RFC 822 형식(요일/초 생략, 시간대 약어 포함)과 Atom의 ISO 8601 형식을 처리
+ */
+public final class FeedDates {
+
+    private static final List<DateTimeFormatter> ZONED_FORMATS = List.of(
+            DateTimeFormatter.RFC_1123_DATE_TIME,
+            DateTimeFormatter.ofPattern("[EEE, ]d MMM yyyy HH:mm[:ss] xx", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("[EEE, ]d MMM yyyy HH:mm[:ss] z", Locale.ENGLISH),
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+            DateTimeFormatter.ISO_ZONED_DATE_TIME
+    );
+
+    private FeedDates() {
+    }
+
+    /**
+     * @return 시스템 시간대 기준 시각, 해석할 수 없으면 null
+     */
+    public static LocalDateTime parse(String text) {
+        if (!StringUtils.hasText(text)) {
+            return null;
+        }
+        String value = text.trim();
+
+        for (DateTimeFormatter format : ZONED_FORMATS) {
+            try {
+                return ZonedDateTime.parse(value, format)
+                        .withZoneSameInstant(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식으로 재시도
+            }
+        }
+
+        // 시간대가 없는 ISO 형식은 시스템 시간대로 간주
+        try {
+            return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.feedping.rss;
+
+import com.feedping.dto.FeedFetchResult;
+import com.feedping.metrics.NotificationMetrics;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 URL 수집 결과 공유
+ * 동시에 들어온 같은 URL 요청은 하나의 수집에 합류하고, 결과는 잠시 보관하여 재사용
+ * 실패 결과도 짧게 보관하여 잘못된 URL에 반복 요청하지 않음
+ */
+@Slf4j
+@Component
+public class FeedFetchCache {
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final int maxEntries;
+    private final NotificationMetrics metrics;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<FeedFetchResult>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public FeedFetchCache(FeedHttpProperties properties, NotificationMetrics metrics) {
+        this(properties, metrics, System::nanoTime);
+    }
+
+    FeedFetchCache(FeedHttpProperties properties, NotificationMetrics metrics, LongSupplier nanoClock) {
+        this.ttlNanos = properties.cacheTtl().toNanos();
+        this.negativeTtlNanos = properties.negativeCacheTtl().toNanos();
+        this.maxEntries = properties.cacheMaxEntries();
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 보관 중인 결과를 반환하고, 없으면 수집 (같은 URL을 수집 중이면 그 결과를 기다림)
+     *
+     * @param url    피드 URL
+     * @param loader 조건부 헤더 없이 피드 전체를 수집하는 작업
+     * @throws RuntimeException 수집 실패 시 (보관 중인 실패 포함)
+     */
+    public FeedFetchResult get(String url, Supplier<FeedFetchResult> loader) {
+        Entry entry = freshEntry(url);
+        if (entry != null) {
+            metrics.recordFeedFetchCache(entry.failure() != null ? "negative_hit" : "hit");
+            return entry.unwrap();
+        }
+
+        CompletableFuture<FeedFetchResult> flight = new CompletableFuture<>();
+        CompletableFuture<FeedFetchResult> existing = inFlight.putIfAbsent(url, flight);
+        if (existing != null) {
+            metrics.recordFeedFetchCache("joined");
+            return join(existing);
+        }
+
+        metrics.recordFeedFetchCache("miss");
+        try {
+            FeedFetchResult result = loader.get();
+            store(url, new Entry(result, null, nanoClock.getAsLong() + ttlNanos));
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            store(url, new Entry(null, e, nanoClock.getAsLong() + negativeTtlNanos));
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(url, flight);
+            // Error 등 예상하지 못한 종료에도 합류한 요청이 멈추지 않도록 완료 처리 (이미 완료된 경우 무시됨)
+            flight.completeExceptionally(new IllegalStateException("같은 URL 수집이 비정상 종료되었습니다."));
+        }
+    }
+
+    /**
+     * 보관 중인 성공 결과 조회 (실패 결과는 무시)
+     *
+     * @return 유효 기간 안의 결과, 없으면 null
+     */
+    public FeedFetchResult getIfFresh(String url) {
+        Entry entry = freshEntry(url);
+        if (entry == null || entry.failure() != null) {
+            return null;
+        }
+        metrics.recordFeedFetchCache("hit");
+        return entry.result();
+    }
+
+    /**
+     * 다른 경로에서 수집한 결과 보관 (이후 검증 요청이 재사용)
+     */
+    public void put(String url, FeedFetchResult result) {
+        store(url, new Entry(result, null, nanoClock.getAsLong() + ttlNanos));
+    }
+
+    private Entry freshEntry(String url) {
+        Entry entry = entries.get(url);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            entries.remove(url, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void store(String url, Entry entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(url)) {
+            long now = nanoClock.getAsLong();
+            entries.values().removeIf(e -> e.isExpired(now));
+            // 만료된 항목을 정리해도 가득 차 있으면 보관하지 않음 (수집 자체는 정상 진행)
+            if (entries.size() >= maxEntries) {
+                log.debug("수집 결과 보관 한도 초과로 보관하지 않습니다: {}", url);
+                return;
+            }
+        }
+        entries.put(url, entry);
+    }
+
+    private FeedFetchResult join(CompletableFuture<FeedFetchResult> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("같은 URL 수집이 취소되었습니다.", e);
+        }
+    }
+
+    private record Entry(FeedFetchResult result, RuntimeException failure, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+
+        FeedFetchResult unwrap() {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+
+}
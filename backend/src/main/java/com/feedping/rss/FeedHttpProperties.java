@@ -0,0 +1,29 @@
+package com.feedping.rss;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 피드 수집용 HTTP 클라이언트 설정
+ */
+@ConfigurationProperties(prefix = "feed.http")
+public record FeedHttpProperties(
+        Duration connectTimeout,    // TCP/TLS 연결 수립 제한 시간
+        Duration readTimeout,       // 요청 후 응답 헤더 수신까지 제한 시간
+        Duration totalTimeout,      // 요청부터 본문을 끝까지 읽을 때까지 전체 제한 시간
+        DataSize maxBodySize,       // 압축 해제 후 본문 최대 크기 (초과 시 전송 중단)
+        Duration cacheTtl,          // 같은 URL 수집 결과를 재사용하는 시간 (검증 직후 동기화 등)
+        Duration negativeCacheTtl,  // 실패한 URL에 다시 요청하지 않는 시간
+        int cacheMaxEntries         // 보관할 최대 URL 수
+) {
+    public FeedHttpProperties {
+        connectTimeout = connectTimeout != null ? connectTimeout : Duration.ofSeconds(5);
+        readTimeout = readTimeout != null ? readTimeout : Duration.ofSeconds(15);
+        totalTimeout = totalTimeout != null ? totalTimeout : Duration.ofSeconds(30);
+        maxBodySize = maxBodySize != null ? maxBodySize : DataSize.ofMegabytes(5);
+        cacheTtl = cacheTtl != null ? cacheTtl : Duration.ofMinutes(2);
+        negativeCacheTtl = negativeCacheTtl != null ? negativeCacheTtl : Duration.ofSeconds(30);
+        cacheMaxEntries = cacheMaxEntries > 0 ? cacheMaxEntries : 1000;
+    }
+}
@@ -0,0 +1,87 @@
+package com.feedping.rss;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 주소 정규화
+ * 같은 피드를 가리키는 다른 표기를 하나의 키로 모아 중복 피드를 판별
+ * 예: {@code http://www.x.com/feed/?utm_source=a}, {@code https://x.com/feed} -> {@code x.com/feed}
+ */
+public final class FeedUrls {
+
+    // 내용과 무관한 추적용 쿼리 파라미터 (utm_* 는 접두사로 판별)
+    private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "mc_cid", "mc_eid");
+
+    private FeedUrls() {
+    }
+
+    /**
+     * 정규화한 주소 키
+     * 스킴(http / https), 호스트 대소문자와 www 접두사, 기본 포트, 끝 슬래시, 프래그먼트, 추적 파라미터, 쿼리 순서를 무시
+     * 주소를 해석할 수 없으면 앞뒤 공백만 제거하여 반환
+     */
+    public static String canonicalize(String url) {
+        String trimmed = url.trim();
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+        String query = canonicalQuery(uri.getRawQuery());
+        return host + port(uri) + path(uri.getRawPath()) + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    // 스킴의 기본 포트는 생략
+    private static String port(URI uri) {
+        int port = uri.getPort();
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "";
+        boolean defaultPort = port == -1
+                || (port == 80 && scheme.equals("http"))
+                || (port == 443 && scheme.equals("https"));
+        return defaultPort ? "" : ":" + port;
+    }
+
+    // 빈 경로는 "/"로, 그 외에는 끝 슬래시 제거
+    private static String path(String rawPath) {
+        if (rawPath == null || rawPath.isEmpty()) {
+            return "/";
+        }
+        int end = rawPath.length();
+        while (end > 1 && rawPath.charAt(end - 1) == '/') {
+            end--;
+        }
+        return rawPath.substring(0, end);
+    }
+
+    // 추적 파라미터를 제외하고 이름 순으로 정렬
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        return Arrays.stream(rawQuery.split("&"))
+                .filter(param -> !param.isEmpty() && !isTracking(param))
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+
+    private static boolean isTracking(String param) {
+        int separator = param.indexOf('=');
+        String name = (separator >= 0 ? param.substring(0, separator) : param).toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || TRACKING_PARAMS.contains(name);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.feedping.rss;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+
+/**
+ * 읽은 바이트로 본문 지문을 계산하는 입력 스트림
+ * 암호학적 해시가 필요 없으므로 하드웨어 가속되는 CRC32C와 본문 길이를 조합해 사용
+ */
+public class FingerprintInputStream extends FilterInputStream {
+
+    private final CRC32C checksum = new CRC32C();
+    private long length;
+
+    public FingerprintInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            checksum.update(b);
+            length++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            checksum.update(b, off, n);
+            length += n;
+        }
+        return n;
+    }
+
+    // 건너뛴 바이트도 지문에 포함되도록 직접 읽어서 버림
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(8192, Math.max(n, 0))];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * 지금까지 읽은 본문의 지문 (상위 32비트: CRC32C, 하위 32비트: 길이)
+     */
+    public long fingerprint() {
+        return (checksum.getValue() << 32) | (length & 0xFFFFFFFFL);
+    }
+
+}
@@ -0,0 +1,242 @@
+package com.feedping.rss;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.feedping.dto.RssItemDto;
+import com.feedping.rss.SizeLimitInputStream.BodyTooLargeException;
+import com.feedping.rss.StaxFeedParser.ParsedFeed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * JSON Feed (https://jsonfeed.org) 스트리밍 파서
+ * 트리를 만들지 않고 토큰 단위로 읽으며, 필요한 개수를 채우면 즉시 읽기를 멈춤
+ */
+public final class JsonFeedParser {
+
+    // 제목이 없는 항목(마이크로블로그 등)은 본문 앞부분을 제목으로 사용
+    private static final int FALLBACK_TITLE_LENGTH = 100;
+
+    // 설정 후에는 읽기 전용으로만 사용하므로 공유
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private JsonFeedParser() {
+    }
+
+    /**
+     * 본문 첫 글자와 Content-Type으로 JSON Feed 여부 판별
+     * 본문이 '<'로 시작하면 Content-Type과 관계없이 XML로 처리
+     */
+    public static boolean isJsonFeed(byte[] prefix, String contentType) {
+        int first = firstSignificantByte(prefix);
+        if (first == '{') {
+            return true;
+        }
+        if (first == '<' || !StringUtils.hasText(contentType)) {
+            return false;
+        }
+        try {
+            String subtype = MediaType.parseMediaType(contentType).getSubtype();
+            return "feed+json".equals(subtype) || "json".equals(subtype);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 항목을 순서대로 읽어 최대 개수를 채우면 중단
+     * 문자셋은 JSON 명세에 따라 본문 앞부분으로 자동 판별 (UTF-8 / UTF-16 / UTF-32)
+     *
+     * @param maxEntries 조건을 통과한 항목 최대 개수
+     * @param accept     결과에 포함할 항목 조건
+     * @throws IllegalArgumentException JSON 형식이 아닌 경우
+     * @throws IOException              본문 읽기 중 오류 발생 시
+     */
+    public static ParsedFeed parse(InputStream input, int maxEntries, Predicate<RssItemDto> accept)
+            throws IOException {
+        List<RssItemDto> items = new ArrayList<>();
+        int entryCount = 0;
+        String hubUrl = null;
+        String selfUrl = null;
+
+        try (JsonParser json = FACTORY.createParser(input)) {
+            if (json.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON Feed 최상위 값이 객체가 아닙니다.");
+            }
+
+            while (json.nextToken() == JsonToken.FIELD_NAME) {
+                String field = json.currentName();
+                JsonToken value = json.nextToken();
+                switch (field) {
+                    case "feed_url" -> selfUrl = readText(json);
+                    case "hubs" -> hubUrl = readWebSubHub(json);
+                    case "items" -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            json.skipChildren();
+                            continue;
+                        }
+                        JsonToken token;
+                        while ((token = json.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                            if (token != JsonToken.START_OBJECT) {
+                                json.skipChildren();
+                                continue;
+                            }
+                            entryCount++;
+                            RssItemDto item = readItem(json);
+                            if (accept.test(item)) {
+                                items.add(item);
+                            }
+                            if (items.size() >= maxEntries) {
+                                return new ParsedFeed(items, entryCount, false, hubUrl, selfUrl);
+                            }
+                        }
+                    }
+                    default -> json.skipChildren();
+                }
+            }
+            return new ParsedFeed(items, entryCount, false, hubUrl, selfUrl);
+        } catch (BodyTooLargeException e) {
+            // 크기 한도 초과: 완전히 읽은 항목이 있으면 그것만으로 결과 반환
+            if (entryCount == 0) {
+                throw e;
+            }
+            return new ParsedFeed(items, entryCount, true, hubUrl, selfUrl);
+        } catch (JsonProcessingException e) {
+            // 형식 오류는 네트워크 오류(IOException)와 구분하여 전달
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+
+    private static RssItemDto readItem(JsonParser json) throws IOException {
+        String id = null;
+        String url = null;
+        String externalUrl = null;
+        String title = null;
+        String summary = null;
+        String contentText = null;
+        String contentHtml = null;
+        String published = null;
+        String modified = null;
+
+        while (json.nextToken() == JsonToken.FIELD_NAME) {
+            String field = json.currentName();
+            json.nextToken();
+            switch (field) {
+                case "id" -> id = readText(json);
+                case "url" -> url = readText(json);
+                case "external_url" -> externalUrl = readText(json);
+                case "title" -> title = readText(json);
+                case "summary" -> summary = readText(json);
+                case "content_text" -> contentText = readText(json);
+                case "content_html" -> contentHtml = readText(json);
+                case "date_published" -> published = readText(json);
+                case "date_modified" -> modified = readText(json);
+                default -> json.skipChildren();
+            }
+        }
+
+        // url이 없으면 외부 링크, 그것도 없으면 URL 형태의 id 사용
+        String link = firstText(url, externalUrl, isHttpUrl(id) ? id : null);
+        String description = firstText(summary, contentText, contentHtml);
+        if (!StringUtils.hasText(title)) {
+            title = abbreviate(firstText(contentText, summary));
+        }
+
+        return RssItemDto.of(trim(title), trim(link), description,
+                FeedDates.parse(published != null ? published : modified));
+    }
+
+    /**
+     * hubs 배열에서 WebSub 허브 주소 찾기 (현재 위치: 배열 시작)
+     */
+    private static String readWebSubHub(JsonParser json) throws IOException {
+        if (json.currentToken() != JsonToken.START_ARRAY) {
+            json.skipChildren();
+            return null;
+        }
+
+        String hubUrl = null;
+        JsonToken token;
+        while ((token = json.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                json.skipChildren();
+                continue;
+            }
+            String type = null;
+            String url = null;
+            while (json.nextToken() == JsonToken.FIELD_NAME) {
+                String field = json.currentName();
+                json.nextToken();
+                switch (field) {
+                    case "type" -> type = readText(json);
+                    case "url" -> url = readText(json);
+                    default -> json.skipChildren();
+                }
+            }
+            if (hubUrl == null && "WebSub".equalsIgnoreCase(type)) {
+                hubUrl = trim(url);
+            }
+        }
+        return hubUrl;
+    }
+
+    // 숫자 등 단일 값은 문자열로 변환하고, 객체 / 배열은 건너뛰고 null 반환
+    private static String readText(JsonParser json) throws IOException {
+        if (json.currentToken().isScalarValue()) {
+            return json.getValueAsString();
+        }
+        json.skipChildren();
+        return null;
+    }
+
+    private static String firstText(String... values) {
+        for (String value : values) {
+            if (StringUtils.hasText(value)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isHttpUrl(String value) {
+        return value != null && (value.startsWith("http://") || value.startsWith("https://"));
+    }
+
+    private static String abbreviate(String text) {
+        if (text == null) {
+            return null;
+        }
+        String singleLine = text.strip().replaceAll("\\s+", " ");
+        return singleLine.length() > FALLBACK_TITLE_LENGTH
+                ? singleLine.substring(0, FALLBACK_TITLE_LENGTH) + "..."
+                : singleLine;
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    /**
+     * BOM과 공백을 건너뛴 첫 바이트 (없으면 -1)
+     */
+    private static int firstSignificantByte(byte[] prefix) {
+        int start = prefix.length >= 3 && (prefix[0] & 0xFF) == 0xEF && (prefix[1] & 0xFF) == 0xBB
+                && (prefix[2] & 0xFF) == 0xBF ? 3 : 0;
+        for (int i = start; i < prefix.length; i++) {
+            int b = prefix[i] & 0xFF;
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return b;
+            }
+        }
+        return -1;
+    }
+
+}
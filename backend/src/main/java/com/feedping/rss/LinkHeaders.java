@@ -0,0 +1,51 @@
+package com.feedping.rss;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP Link 헤더 해석 (RFC 8288)
+ * 예: {@code <https://hub.example.com/>; rel="hub", <https://blog.example.com/feed>; rel="self"}
+ */
+public final class LinkHeaders {
+
+    private static final Pattern LINK = Pattern.compile("<([^>]*)>([^<]*)");
+    private static final Pattern REL = Pattern.compile("(?i)\\brel\\s*=\\s*(?:\"([^\"]*)\"|([^\\s;,]+))");
+
+    private LinkHeaders() {
+    }
+
+    /**
+     * 지정한 rel을 가진 첫 번째 링크 주소
+     *
+     * @return 링크 주소, 없으면 null
+     */
+    public static String find(List<String> headerValues, String rel) {
+        for (String headerValue : headerValues) {
+            Matcher link = LINK.matcher(headerValue);
+            while (link.find()) {
+                if (hasRel(link.group(2), rel)) {
+                    return link.group(1).trim();
+                }
+            }
+        }
+        return null;
+    }
+
+    // rel 값은 공백으로 구분된 여러 관계를 가질 수 있음 (예: rel="self hub")
+    private static boolean hasRel(String params, String rel) {
+        Matcher matcher = REL.matcher(params);
+        if (!matcher.find()) {
+            return false;
+        }
+        String value = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+        for (String token : value.trim().split("\\s+")) {
+            if (token.equalsIgnoreCase(rel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
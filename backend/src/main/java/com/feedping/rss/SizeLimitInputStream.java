@@ -0,0 +1,88 @@
+package com.feedping.rss;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수가 한도를 넘는 즉시 전송을 중단시키는 입력 스트림
+ * 압축 해제된 본문 기준으로 세므로 압축 폭탄도 함께 차단
+ */
+public class SizeLimitInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    public SizeLimitInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (count >= maxBytes) {
+            return checkOverflow();
+        }
+        int b = super.read();
+        if (b != -1) {
+            count++;
+        }
+        return b;
+    }
+
+    /**
+     * 한도까지는 그대로 전달하고, 한도를 넘는 바이트가 실제로 있을 때만 중단
+     * 파서가 한도 직전까지 받은 완전한 항목은 처리할 수 있도록 함
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (count >= maxBytes) {
+            return checkOverflow();
+        }
+        int n = super.read(b, off, (int) Math.min(len, maxBytes - count));
+        if (n > 0) {
+            count += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(Math.min(n, maxBytes - count));
+        count += Math.max(0, skipped);
+        return skipped;
+    }
+
+    // 한도에 도달하면 더 읽을 수 있는 바이트가 없는 것으로 알려 디코더가 받은 만큼 먼저 처리하도록 함
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(super.available(), maxBytes - count);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    // 한도에 도달한 뒤 본문이 끝났으면 정상 종료, 남은 바이트가 있으면 한도 초과
+    private int checkOverflow() throws IOException {
+        if (super.read() == -1) {
+            return -1;
+        }
+        throw new BodyTooLargeException(maxBytes);
+    }
+
+    /**
+     * 본문 크기 한도 초과
+     */
+    public static class BodyTooLargeException extends IOException {
+
+        public BodyTooLargeException(long maxBytes) {
+            super("피드 본문 크기 한도 초과 (최대 " + maxBytes + " bytes)");
+        }
+    }
+
+}
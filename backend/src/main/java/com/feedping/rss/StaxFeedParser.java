@@ -0,0 +1,305 @@
+package com.feedping.rss;
+
+import com.feedping.dto.RssItemDto;
+import com.feedping.rss.SizeLimitInputStream.BodyTooLargeException;
+import com.rometools.rome.io.XmlFixerReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.util.StringUtils;
+
+/**
+ * RSS 2.0 / Atom 스트리밍 파서
+ * 전체 문서를 DOM으로 만들지 않고 항목을 하나씩 읽으며, 필요한 개수를 채우면 즉시 읽기를 멈춤
+ * RSS 1.0(RDF) 등 그 밖의 형식은 지원하지 않으므로 호출 측에서 ROME으로 처리
+ */
+public final class StaxFeedParser {
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String DUBLIN_CORE_NAMESPACE = "http://purl.org/dc/elements/1.1/";
+
+    // 설정 후에는 읽기 전용으로만 사용하므로 공유
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    public enum Format {
+        RSS, ATOM
+    }
+
+    /**
+     * 파싱 결과
+     *
+     * @param items      조건을 통과한 항목 (최대 개수까지)
+     * @param entryCount 읽은 항목 수 (조건 통과 여부와 무관)
+     * @param truncated  본문 크기 한도에 걸려 마지막 완전한 항목까지만 읽었는지 여부
+     * @param hubUrl     피드 수준의 rel="hub" 링크 (WebSub 허브, 없으면 null)
+     * @param selfUrl    피드 수준의 rel="self" 링크 (없으면 null)
+     */
+    public record ParsedFeed(List<RssItemDto> items, int entryCount, boolean truncated,
+                             String hubUrl, String selfUrl) {
+    }
+
+    private StaxFeedParser() {
+    }
+
+    /**
+     * 본문 앞부분의 루트 요소로 형식 판별
+     *
+     * @return 스트리밍 파서가 처리할 수 있는 형식, 그 밖의 형식이면 null
+     */
+    public static Format detectFormat(byte[] prefix, Charset charset) {
+        XMLStreamReader xml = null;
+        try {
+            xml = FACTORY.createXMLStreamReader(
+                    new XmlFixerReader(new InputStreamReader(new ByteArrayInputStream(prefix), charset)));
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT) {
+                    return rootFormat(xml);
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            // 앞부분만으로 판별할 수 없으면 ROME으로 처리
+            return null;
+        } finally {
+            close(xml);
+        }
+    }
+
+    /**
+     * 항목을 순서대로 읽어 최대 개수를 채우면 중단
+     *
+     * @param maxEntries 조건을 통과한 항목 최대 개수
+     * @param accept     결과에 포함할 항목 조건
+     */
+    public static ParsedFeed parse(Reader reader, Format format, int maxEntries, Predicate<RssItemDto> accept)
+            throws XMLStreamException, IOException {
+        XMLStreamReader xml = FACTORY.createXMLStreamReader(new XmlFixerReader(reader));
+        List<RssItemDto> items = new ArrayList<>();
+        int entryCount = 0;
+        String hubUrl = null;
+        String selfUrl = null;
+
+        try {
+            while (items.size() < maxEntries && xml.hasNext()) {
+                if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                if (isEntry(xml, format)) {
+                    entryCount++;
+                    RssItemDto item = format == Format.RSS ? readRssItem(xml) : readAtomEntry(xml);
+                    if (accept.test(item)) {
+                        items.add(item);
+                    }
+                } else if (isAtomLink(xml)) {
+                    // 항목 안의 링크는 항목과 함께 소비되므로 여기서는 피드 수준 링크만 만남
+                    String rel = xml.getAttributeValue(null, "rel");
+                    String href = trim(xml.getAttributeValue(null, "href"));
+                    if ("hub".equals(rel) && hubUrl == null) {
+                        hubUrl = href;
+                    } else if ("self".equals(rel) && selfUrl == null) {
+                        selfUrl = href;
+                    }
+                }
+            }
+            return new ParsedFeed(items, entryCount, false, hubUrl, selfUrl);
+        } catch (XMLStreamException e) {
+            // 스트림 읽기 중 발생한 오류는 원래 예외로 전달 (네트워크 오류, 시간 초과 등)
+            IOException ioException = findCause(e, IOException.class);
+            if (ioException == null) {
+                throw e;
+            }
+            // 크기 한도 초과: 완전히 읽은 항목이 있으면 그것만으로 결과 반환
+            if (!(ioException instanceof BodyTooLargeException) || entryCount == 0) {
+                throw ioException;
+            }
+            return new ParsedFeed(items, entryCount, true, hubUrl, selfUrl);
+        } finally {
+            close(xml);
+        }
+    }
+
+    private static Format rootFormat(XMLStreamReader xml) {
+        if ("rss".equals(xml.getLocalName()) && !StringUtils.hasText(xml.getNamespaceURI())) {
+            return Format.RSS;
+        }
+        if ("feed".equals(xml.getLocalName()) && ATOM_NAMESPACE.equals(xml.getNamespaceURI())) {
+            return Format.ATOM;
+        }
+        return null;
+    }
+
+    private static boolean isEntry(XMLStreamReader xml, Format format) {
+        return format == Format.RSS
+                ? "item".equals(xml.getLocalName()) && !StringUtils.hasText(xml.getNamespaceURI())
+                : "entry".equals(xml.getLocalName()) && ATOM_NAMESPACE.equals(xml.getNamespaceURI());
+    }
+
+    private static boolean isAtomLink(XMLStreamReader xml) {
+        return "link".equals(xml.getLocalName()) && ATOM_NAMESPACE.equals(xml.getNamespaceURI());
+    }
+
+    private static RssItemDto readRssItem(XMLStreamReader xml) throws XMLStreamException {
+        String title = null;
+        String link = null;
+        String description = null;
+        String guid = null;
+        boolean guidIsPermaLink = true;
+        String pubDate = null;
+        String dcDate = null;
+
+        // 하위 요소는 끝까지 소비하므로 여기서 만나는 END_ELEMENT는 item의 끝
+        while (xml.next() != XMLStreamConstants.END_ELEMENT) {
+            if (xml.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String name = xml.getLocalName();
+            if (!StringUtils.hasText(xml.getNamespaceURI())) {
+                switch (name) {
+                    case "title" -> title = readText(xml);
+                    case "link" -> link = readText(xml);
+                    case "description" -> description = readText(xml);
+                    case "pubDate" -> pubDate = readText(xml);
+                    case "guid" -> {
+                        guidIsPermaLink = !"false".equalsIgnoreCase(xml.getAttributeValue(null, "isPermaLink"));
+                        guid = readText(xml);
+                    }
+                    default -> skipElement(xml);
+                }
+            } else if (DUBLIN_CORE_NAMESPACE.equals(xml.getNamespaceURI()) && "date".equals(name)) {
+                dcDate = readText(xml);
+            } else {
+                skipElement(xml);
+            }
+        }
+
+        // link가 없으면 고유 주소로 표시된 guid 사용 (ROME과 동일)
+        if (!StringUtils.hasText(link) && guidIsPermaLink) {
+            link = guid;
+        }
+
+        return RssItemDto.of(trim(title), trim(link), description,
+                FeedDates.parse(pubDate != null ? pubDate : dcDate));
+    }
+
+    private static RssItemDto readAtomEntry(XMLStreamReader xml) throws XMLStreamException {
+        String title = null;
+        String link = null;
+        String summary = null;
+        String published = null;
+        String updated = null;
+
+        while (xml.next() != XMLStreamConstants.END_ELEMENT) {
+            if (xml.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (!ATOM_NAMESPACE.equals(xml.getNamespaceURI())) {
+                skipElement(xml);
+                continue;
+            }
+
+            switch (xml.getLocalName()) {
+                case "title" -> title = readText(xml);
+                case "link" -> {
+                    String rel = xml.getAttributeValue(null, "rel");
+                    if (link == null && (rel == null || "alternate".equals(rel))) {
+                        link = xml.getAttributeValue(null, "href");
+                    }
+                    skipElement(xml);
+                }
+                case "summary" -> summary = readText(xml);
+                case "published" -> published = readText(xml);
+                case "updated" -> updated = readText(xml);
+                default -> skipElement(xml);
+            }
+        }
+
+        return RssItemDto.of(trim(title), trim(link), summary,
+                FeedDates.parse(published != null ? published : updated));
+    }
+
+    /**
+     * 현재 요소의 텍스트를 모두 이어붙여 반환 (XHTML 등 하위 요소의 텍스트 포함)
+     * 반환 시 현재 요소의 END_ELEMENT에 위치
+     */
+    private static String readText(XMLStreamReader xml) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (xml.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        text.append(xml.getText());
+                default -> {
+                    // 주석, 처리 명령 등은 무시
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    private static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable cause = e; cause != null; cause = nextCause(cause)) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+
+    // XMLStreamException은 원인 예외를 getNestedException으로만 노출하는 구현이 있음
+    private static Throwable nextCause(Throwable e) {
+        if (e.getCause() != null) {
+            return e.getCause();
+        }
+        return e instanceof XMLStreamException streamException ? streamException.getNestedException() : null;
+    }
+
+    private static void close(XMLStreamReader xml) {
+        if (xml == null) {
+            return;
+        }
+        try {
+            xml.close();
+        } catch (XMLStreamException ignored) {
+            // 읽기 전용 자원이므로 무시
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티 / DTD 처리 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.feedping.service;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.repository.RssFeedRepository;
+import com.feedping.sync.FeedPollScheduler;
+import com.feedping.sync.FeedSyncCluster;
+import com.feedping.sync.FeedSyncEngine;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 중복 피드 병합
+ * 같은 정규화 주소를 가진 피드(다른 표기로 등록된 같은 피드)를 하나로 합쳐, 같은 내용을 사이클마다 한 번만 수집하도록 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DuplicateFeedMerger {
+
+    // 한 번에 처리하는 최대 건수 (트랜잭션이 길어지지 않도록 제한, 남은 피드는 다음 실행에서 처리)
+    private static final int BATCH_SIZE = 100;
+
+    private static final String JOB_NAME = "duplicate-feed-merge";
+    private static final Duration JOB_LOCK_DURATION = Duration.ofMinutes(30);
+
+    // 남길 피드 우선순위: 구독 중 -> 수집에 성공한 적 있음 -> HTTPS -> 먼저 등록
+    private static final Comparator<RssFeed> SURVIVOR_ORDER = Comparator
+            .comparing(RssFeed::isOrphaned)
+            .thenComparing(feed -> feed.getFetchState().getLastSuccessAt() == null)
+            .thenComparing(feed -> !feed.getUrl().regionMatches(true, 0, "https:", 0, 6))
+            .thenComparing(RssFeed::getId);
+
+    private final RssFeedRepository rssFeedRepository;
+    private final RssFeedRelocationService rssFeedRelocationService;
+    private final FeedPollScheduler feedPollScheduler;
+    private final FeedSyncCluster feedSyncCluster;
+    private final FeedSyncEngine feedSyncEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 정규화 주소가 없는 기존 피드를 채운 뒤 중복 피드 병합 (1시간 간격)
+     * 여러 인스턴스 중 한 곳에서만 실행하며, 동기화 중인 피드는 건드리지 않고 다음 실행으로 미룸
+     * 변경할 피드의 임대는 트랜잭션이 커밋된 뒤 해제하여 동기화가 병합 전 상태를 읽지 않도록 함
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void mergeDuplicates() {
+        if (!feedSyncCluster.tryLockJob(JOB_NAME, JOB_LOCK_DURATION)) {
+            log.debug("다른 인스턴스에서 중복 피드 병합 중이므로 건너뜁니다");
+            return;
+        }
+
+        Set<Long> leased = new HashSet<>();
+        try {
+            Integer merged = transactionTemplate.execute(status -> mergeBatch(leased));
+            if (merged != null && merged > 0) {
+                log.info("같은 정규화 주소의 중복 피드를 병합했습니다: {} 개", merged);
+            }
+        } finally {
+            leased.forEach(feedSyncCluster::release);
+            feedSyncCluster.unlockJob(JOB_NAME);
+        }
+    }
+
+    private int mergeBatch(Set<Long> leased) {
+        List<RssFeed> uncanonicalized = rssFeedRepository.findByCanonicalUrlIsNull(PageRequest.ofSize(BATCH_SIZE));
+        for (RssFeed rssFeed : uncanonicalized) {
+            if (lock(List.of(rssFeed), leased)) {
+                rssFeed.refreshCanonicalUrl();
+            }
+        }
+        // 이번 실행에서 채운 정규화 주소도 중복 조회에 반영
+        rssFeedRepository.flush();
+
+        int merged = 0;
+        for (String canonicalUrl : rssFeedRepository.findDuplicateCanonicalUrls(PageRequest.ofSize(BATCH_SIZE))) {
+            List<RssFeed> duplicates = rssFeedRepository.findByCanonicalUrlOrderByIdAsc(canonicalUrl);
+            if (lock(duplicates, leased)) {
+                merged += merge(duplicates);
+            }
+        }
+        return merged;
+    }
+
+    // 모든 피드가 동기화 중이 아니고 임대를 얻은 경우에만 true (얻은 임대는 실패해도 leased에 남겨 해제)
+    private boolean lock(List<RssFeed> feeds, Set<Long> leased) {
+        for (RssFeed rssFeed : feeds) {
+            if (leased.contains(rssFeed.getId())) {
+                continue;
+            }
+            if (feedSyncEngine.isInFlight(rssFeed.getId()) || !feedSyncCluster.tryLease(rssFeed.getId())) {
+                log.debug("동기화 중인 피드가 있어 다음 실행으로 미룹니다: {}", rssFeed.getUrl());
+                return false;
+            }
+            leased.add(rssFeed.getId());
+        }
+        return true;
+    }
+
+    // 남길 피드 하나로 나머지 피드의 구독과 항목을 옮기고, 옮긴 피드는 폴링 스케줄에서 제외
+    private int merge(List<RssFeed> duplicates) {
+        RssFeed survivor = duplicates.stream().min(SURVIVOR_ORDER).orElseThrow();
+        int merged = 0;
+        for (RssFeed duplicate : duplicates) {
+            if (duplicate != survivor) {
+                rssFeedRelocationService.merge(duplicate, survivor);
+                feedPollScheduler.unschedule(duplicate.getId());
+                merged++;
+            }
+        }
+        return merged;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.feedping.service;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.repository.MemberReceivedItemRepository;
+import com.feedping.repository.RssFeedRepository;
+import com.feedping.repository.RssItemRepository;
+import com.feedping.repository.WebSubSubscriptionRepository;
+import com.feedping.sync.FeedPollScheduler;
+import com.feedping.sync.FeedSyncCluster;
+import com.feedping.sync.FeedSyncEngine;
+import com.feedping.sync.FeedSyncProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 구독자가 없는 피드 정리
+ * 구독자가 모두 떠난 피드는 폴링하지 않고 보관하다가, 보관 기간 동안 다시 구독되지 않으면 항목과 함께 삭제
+ */
+@Slf4j
+@Service
+public class OrphanFeedCleaner {
+
+    // 한 번에 삭제하는 최대 피드 수 (트랜잭션이 길어지지 않도록 제한, 남은 피드는 다음 실행에서 처리)
+    private static final int PURGE_BATCH_SIZE = 100;
+
+    private static final String JOB_NAME = "orphan-feed-cleanup";
+    private static final Duration JOB_LOCK_DURATION = Duration.ofMinutes(30);
+
+    private final RssFeedRepository rssFeedRepository;
+    private final RssItemRepository rssItemRepository;
+    private final MemberReceivedItemRepository memberReceivedItemRepository;
+    private final WebSubSubscriptionRepository webSubSubscriptionRepository;
+    private final FeedPollScheduler feedPollScheduler;
+    private final FeedSyncCluster feedSyncCluster;
+    private final FeedSyncEngine feedSyncEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final FeedSyncProperties.Catalog catalog;
+
+    public OrphanFeedCleaner(RssFeedRepository rssFeedRepository, RssItemRepository rssItemRepository,
+                             MemberReceivedItemRepository memberReceivedItemRepository,
+                             WebSubSubscriptionRepository webSubSubscriptionRepository,
+                             FeedPollScheduler feedPollScheduler, FeedSyncCluster feedSyncCluster,
+                             FeedSyncEngine feedSyncEngine, TransactionTemplate transactionTemplate,
+                             FeedSyncProperties properties) {
+        this.rssFeedRepository = rssFeedRepository;
+        this.rssItemRepository = rssItemRepository;
+        this.memberReceivedItemRepository = memberReceivedItemRepository;
+        this.webSubSubscriptionRepository = webSubSubscriptionRepository;
+        this.feedPollScheduler = feedPollScheduler;
+        this.feedSyncCluster = feedSyncCluster;
+        this.feedSyncEngine = feedSyncEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.catalog = properties.catalog();
+    }
+
+    /**
+     * 구독자가 없는 피드를 보관 대상으로 표시하고, 보관 기간이 지난 피드 삭제 (1시간 간격)
+     * 여러 인스턴스 중 한 곳에서만 실행하며, 동기화 중인 피드는 삭제하지 않고 다음 실행으로 미룸
+     * 삭제할 피드의 임대는 트랜잭션이 커밋된 뒤 해제
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void cleanUp() {
+        if (!feedSyncCluster.tryLockJob(JOB_NAME, JOB_LOCK_DURATION)) {
+            log.debug("다른 인스턴스에서 피드 정리 중이므로 건너뜁니다");
+            return;
+        }
+
+        List<Long> leased = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> cleanUpBatch(LocalDateTime.now(), leased));
+        } finally {
+            leased.forEach(feedSyncCluster::release);
+            feedSyncCluster.unlockJob(JOB_NAME);
+        }
+    }
+
+    private void cleanUpBatch(LocalDateTime now, List<Long> leased) {
+        int marked = rssFeedRepository.markOrphans(now);
+        if (marked > 0) {
+            log.info("구독자가 없는 피드를 보관 대상으로 표시했습니다: {} 개", marked);
+        }
+
+        List<RssFeed> expired = rssFeedRepository.findExpiredOrphans(
+                now.minus(catalog.orphanRetention()), PageRequest.ofSize(PURGE_BATCH_SIZE));
+        int purged = 0;
+        for (RssFeed rssFeed : expired) {
+            if (feedSyncEngine.isInFlight(rssFeed.getId()) || !feedSyncCluster.tryLease(rssFeed.getId())) {
+                log.debug("동기화 중인 피드는 다음 실행에서 삭제합니다: {}", rssFeed.getUrl());
+                continue;
+            }
+            leased.add(rssFeed.getId());
+            purge(rssFeed);
+            purged++;
+        }
+        if (purged > 0) {
+            log.info("보관 기간이 지난 피드를 삭제했습니다: {} 개", purged);
+        }
+    }
+
+    private void purge(RssFeed rssFeed) {
+        // 수신 기록 -> 항목 -> 피드 순으로 삭제 (외래 키 순서)
+        memberReceivedItemRepository.deleteByRssFeed(rssFeed);
+        int deletedItems = rssItemRepository.deleteByRssFeed(rssFeed);
+        webSubSubscriptionRepository.findByRssFeed(rssFeed).ifPresent(webSubSubscriptionRepository::delete);
+        rssFeedRepository.delete(rssFeed);
+        feedPollScheduler.unschedule(rssFeed.getId());
+
+        log.debug("피드 삭제: {} (항목 {} 건)", rssFeed.getUrl(), deletedItems);
+    }
+
+}
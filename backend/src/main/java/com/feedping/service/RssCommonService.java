@@ -1,21 +1,62 @@
 package com.feedping.service;
 
+import com.feedping.domain.FeedFetchState;
+import com.feedping.dto.FeedFetchResult;
 import com.feedping.dto.RssItemDto;
 import com.feedping.exception.ErrorCode;
 import com.feedping.exception.GlobalException;
+import com.feedping.exception.RssFetchThrottledException;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.rss.ContentEncodings;
+import com.feedping.rss.DeadlineInputStream;
+import com.feedping.rss.DeadlineInputStream.DeadlineExceededException;
+import com.feedping.rss.FeedCharsetDetector;
+import com.feedping.rss.FeedFetchCache;
+import com.feedping.rss.FeedHttpProperties;
+import com.feedping.rss.FingerprintInputStream;
+import com.feedping.rss.JsonFeedParser;
+import com.feedping.rss.LinkHeaders;
+import com.feedping.rss.SizeLimitInputStream;
+import com.feedping.rss.SizeLimitInputStream.BodyTooLargeException;
+import com.feedping.rss.StaxFeedParser;
+import com.feedping.rss.StaxFeedParser.Format;
+import com.feedping.rss.StaxFeedParser.ParsedFeed;
 import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.feed.synd.SyndLink;
+import com.rometools.rome.io.FeedException;
 import com.rometools.rome.io.SyndFeedInput;
-import java.io.StringReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLStreamException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.tika.parser.txt.CharsetDetector;
-import org.apache.tika.parser.txt.CharsetMatch;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
@@ -32,10 +73,25 @@ import org.springframework.web.util.UriComponentsBuilder;
 @Service
 public class RssCommonService {
 
+    // 문자셋 / 형식 판별을 위해 미리 읽는 최대 바이트 수
+    private static final int CHARSET_LOOKAHEAD_BYTES = 8 * 1024;
+
+    // 피드당 처리할 최대 항목 수
+    private static final int MAX_ITEMS = 20;
+
+    // 따라갈 최대 리다이렉트 수
+    private static final int MAX_REDIRECTS = 5;
+    private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+
     private final RestTemplate restTemplate;
+    private final FeedHttpProperties httpProperties;
+    private final NotificationMetrics metrics;
+    private final FeedFetchCache fetchCache;
 
     /**
      * RSS 피드 URL에서 피드 데이터를 가져와 파싱
+     * 같은 URL을 동시에 요청하면 하나의 수집 결과를 공유하고, 결과(실패 포함)는 잠시 보관하여 재사용
+     * 검증 직후의 첫 동기화가 같은 결과를 재사용하도록 검증 모드에서도 항목까지 파싱
      *
      * @param url          RSS 피드 URL
      * @param validateOnly 검증만 수행할지 여부 (true: 검증만, false: 항목 반환)
@@ -43,44 +99,97 @@ public class RssCommonService {
      * @throws GlobalException RSS 피드 접근 또는 파싱 중 오류 발생 시
      */
     public List<RssItemDto> fetchAndParseRssFeed(String url, boolean validateOnly) {
+        FeedFetchResult result = fetchCache.get(url, () -> fetch(url, null));
+        return validateOnly ? Collections.emptyList() : result.getItems();
+    }
+
+    /**
+     * 저장된 검증자(ETag, Last-Modified)로 조건부 요청을 보내 피드를 가져와 파싱
+     * 304 Not Modified 응답이면 문자셋 감지와 파싱을 건너뜀
+     *
+     * @param url        RSS 피드 URL
+     * @param fetchState 이전 수집에서 저장한 피드 수집 상태
+     * @return 피드 수집 결과
+     * @throws GlobalException RSS 피드 접근 또는 파싱 중 오류 발생 시
+     */
+    public FeedFetchResult fetchAndParseRssFeed(String url, FeedFetchState fetchState) {
+        // 방금 검증 등으로 수집한 결과가 있으면 다시 요청하지 않음
+        FeedFetchResult shared = fetchCache.getIfFresh(url);
+        if (shared != null) {
+            return reuse(shared, fetchState);
+        }
+
+        FeedFetchResult result = fetch(url, fetchState);
+        if (result.isContentChanged()) {
+            fetchCache.put(url, result);
+        }
+        return result;
+    }
+
+    /**
+     * 공유된 수집 결과를 이 피드의 수집 상태 기준으로 변환
+     * 본문 지문이 저장된 값과 같으면 항목 처리를 건너뛰도록 변경 없음으로 처리
+     */
+    private FeedFetchResult reuse(FeedFetchResult shared, FeedFetchState fetchState) {
+        Long previousFingerprint = fetchState != null ? fetchState.getBodyFingerprint() : null;
+        if (!shared.isContentChanged() || previousFingerprint == null
+                || !previousFingerprint.equals(shared.getBodyFingerprint())) {
+            return shared;
+        }
+        return FeedFetchResult.unchanged(shared.getEtag(), shared.getLastModified(), previousFingerprint,
+                        shared.getCharset())
+                .withHub(shared.getHubUrl(), shared.getTopicUrl())
+                .withMovedTo(shared.getMovedTo());
+    }
+
+    private FeedFetchResult fetch(String url, FeedFetchState fetchState) {
+        long startNanos = System.nanoTime();
+        metrics.incrementFeedFetchesInFlight();
         try {
             URI uri = UriComponentsBuilder
                     .fromUriString(url)
                     .build(true)  // 이미 인코딩된 상태를 유지
                     .toUri();
 
-            // 피드 데이터 가져오기
-            byte[] rawBytes = restTemplate.getForObject(uri, byte[].class);
-            if (rawBytes == null) {
-                throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT, "RSS 피드 응답이 비어있습니다.");
-            }
-
-            String feedContent = detectAndConvertEncoding(rawBytes);
+            // 검증자가 있으면 조건부 요청, 압축 응답 허용
+            HttpHeaders requestHeaders = createConditionalHeaders(fetchState);
+            requestHeaders.set(HttpHeaders.ACCEPT_ENCODING, ContentEncodings.ACCEPTED);
 
-            try (StringReader reader = new StringReader(feedContent)) {
-                SyndFeed feed = new SyndFeedInput().build(reader);
+            // 리다이렉트를 직접 따라가며 영구 이동(301/308)이 이어지는 동안의 마지막 주소를 새 주소로 기록
+            String movedTo = null;
+            boolean permanent = true;
+            int hops = 0;
+            while (true) {
+                URI target = uri;
+                // 응답 스트림에서 바로 파싱 (본문 전체를 byte[] / String으로 복사하지 않음)
+                Hop hop = restTemplate.execute(target, HttpMethod.GET,
+                        request -> request.getHeaders().addAll(requestHeaders),
+                        response -> readResponse(response, target, fetchState, remainingTime(startNanos)));
 
-                // 피드 내용 검증 (항목이 없으면 예외)
-                if (feed.getEntries().isEmpty()) {
-                    throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT, "RSS 피드에 항목이 없습니다.");
+                if (hop == null || (hop.location() == null && hop.result() == null)) {
+                    throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT, "RSS 피드 응답이 비어있습니다.");
                 }
-
-                // 검증 모드인 경우 빈 리스트 반환
-                if (validateOnly) {
-                    return Collections.emptyList();
+                if (hop.location() == null) {
+                    metrics.recordFeedRedirectHops(hops);
+                    return movedTo != null ? hop.result().withMovedTo(movedTo) : hop.result();
                 }
-
-                // 항목 반환 모드인 경우 파싱 결과 반환
-                return feed.getEntries().stream()
-                        .map(RssItemDto::from)
-                        .filter(this::isValidRssItem)
-                        .limit(20)  // 최대 20개 항목으로 제한
-                        .toList();
+                if (++hops > MAX_REDIRECTS) {
+                    throw new GlobalException(ErrorCode.RSS_FEED_CONNECTION_ERROR,
+                            "리다이렉트가 " + MAX_REDIRECTS + "회를 넘었습니다.");
+                }
+                permanent &= hop.permanent();
+                if (permanent) {
+                    movedTo = hop.location().toString();
+                }
+                uri = hop.location();
             }
         } catch (HttpClientErrorException e) {
             log.warn("RSS 피드 접근 권한 오류: {} - {}", url, e.getMessage());
 
-            if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                throw new RssFetchThrottledException("RSS 피드 서버의 요청 제한에 걸렸습니다 (429 Too Many Requests).",
+                        parseRetryAfter(e.getResponseHeaders()));
+            } else if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
                 throw new GlobalException(ErrorCode.RSS_FEED_CONNECTION_ERROR,
                         "RSS 피드에 접근할 권한이 없습니다 (403 Forbidden).");
             } else if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
@@ -92,10 +201,18 @@ public class RssCommonService {
             }
         } catch (HttpServerErrorException e) {
             log.warn("RSS 피드 서버 오류: {} - {}", url, e.getMessage());
+
+            // 503 응답에 Retry-After가 있으면 요청 제한으로 간주
+            Duration retryAfter = parseRetryAfter(e.getResponseHeaders());
+            if (e.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE && retryAfter != null) {
+                throw new RssFetchThrottledException("RSS 피드 서버가 일시적으로 요청을 거부했습니다 (503 Service Unavailable).",
+                        retryAfter);
+            }
             throw new GlobalException(ErrorCode.RSS_FEED_CONNECTION_ERROR,
                     "RSS 피드 서버 오류: " + e.getStatusCode());
         } catch (ResourceAccessException e) {
             log.warn("RSS 피드 접근 실패: {} - {}", url, e.getMessage());
+            recordTimeout(e.getCause());
             throw new GlobalException(ErrorCode.RSS_FEED_CONNECTION_ERROR,
                     "RSS 피드에 접근할 수 없습니다. 접속이 거부되었거나 시간 초과되었습니다.");
         } catch (GlobalException e) {
@@ -104,32 +221,320 @@ public class RssCommonService {
             log.warn("RSS 피드 파싱 실패: {} - {}", url, e.getMessage());
             throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT,
                     "유효한 RSS 피드 형식이 아닙니다.");
+        } finally {
+            metrics.decrementFeedFetchesInFlight(System.nanoTime() - startNanos);
+        }
+    }
+
+    private Duration remainingTime(long startNanos) {
+        return httpProperties.totalTimeout().minusNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 시간 초과 원인을 단계별로 기록
+     */
+    private void recordTimeout(Throwable cause) {
+        if (cause instanceof HttpConnectTimeoutException) {
+            metrics.recordFeedFetchTimeout("connect");
+        } else if (cause instanceof DeadlineExceededException) {
+            metrics.recordFeedFetchTimeout("total");
+        } else if (cause instanceof HttpTimeoutException || cause instanceof SocketTimeoutException) {
+            metrics.recordFeedFetchTimeout("read");
+        }
+    }
+
+    /**
+     * 리다이렉트 응답이면 다음 주소를, 아니면 파싱 결과를 반환
+     */
+    private Hop readResponse(ClientHttpResponse response, URI uri, FeedFetchState fetchState,
+                             Duration remaining) throws IOException {
+        HttpStatusCode status = response.getStatusCode();
+        if (!REDIRECT_STATUSES.contains(status.value())) {
+            return new Hop(extractFeed(response, fetchState, remaining), null, false);
+        }
+
+        URI location = response.getHeaders().getLocation();
+        if (location == null) {
+            throw new GlobalException(ErrorCode.RSS_FEED_CONNECTION_ERROR,
+                    "리다이렉트 응답에 Location 헤더가 없습니다 (" + status.value() + ").");
+        }
+        URI next = uri.resolve(location);
+        // HTTPS에서 HTTP로 낮추는 리다이렉트는 따르지 않음 (HttpClient.Redirect.NORMAL과 동일)
+        String scheme = next.getScheme();
+        if (!"https".equalsIgnoreCase(scheme)
+                && !("http".equalsIgnoreCase(scheme) && "http".equalsIgnoreCase(uri.getScheme()))) {
+            throw new GlobalException(ErrorCode.RSS_FEED_CONNECTION_ERROR,
+                    "허용하지 않는 리다이렉트입니다: " + next);
         }
+        return new Hop(null, next, status.value() == 301 || status.value() == 308);
+    }
+
+    /**
+     * 응답 하나의 처리 결과
+     *
+     * @param result    파싱 결과 (리다이렉트면 null)
+     * @param location  따라갈 다음 주소 (리다이렉트가 아니면 null)
+     * @param permanent 영구 이동(301/308) 여부
+     */
+    private record Hop(FeedFetchResult result, URI location, boolean permanent) {
     }
 
     /**
-     * 문자셋 감지 및 변환
+     * 응답 스트림에서 피드를 파싱
+     * 문자셋 감지는 앞부분 일부만 미리 읽어서 수행하므로 본문 크기와 무관하게 버퍼 크기가 고정됨
+     * 읽는 동안 본문 지문을 계산하여 이전 수집과 같으면 항목 변환을 건너뜀
      */
-    private String detectAndConvertEncoding(byte[] rawBytes) {
-        Charset detectedCharset = detectCharset(rawBytes);
-        return new String(rawBytes, detectedCharset);
+    private FeedFetchResult extractFeed(ClientHttpResponse response, FeedFetchState fetchState,
+                                        Duration remaining) throws IOException {
+        String etag = response.getHeaders().getETag();
+        String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+
+        // 304 Not Modified: 문자셋 감지와 파싱을 건너뜀
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return FeedFetchResult.notModified(etag, lastModified);
+        }
+
+        // 전체 제한 시간 적용 후 압축 해제, 지문은 압축 해제된 본문 기준
+        InputStream rawBody = new DeadlineInputStream(response.getBody(), remaining);
+        InputStream decodedBody = ContentEncodings.decode(rawBody,
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        // 선언된 길이가 한도를 넘으면 본문을 읽지 않고 중단, 선언이 없거나 거짓이어도 읽는 도중 중단
+        long maxBodyBytes = httpProperties.maxBodySize().toBytes();
+        long contentLength = response.getHeaders().getContentLength();
+        if (contentLength > maxBodyBytes) {
+            throw tooLarge(contentLength + " bytes 선언");
+        }
+        InputStream limitedBody = new SizeLimitInputStream(decodedBody, maxBodyBytes);
+        FingerprintInputStream fingerprintStream = new FingerprintInputStream(limitedBody);
+        BufferedInputStream body = new BufferedInputStream(fingerprintStream, CHARSET_LOOKAHEAD_BYTES);
+        byte[] prefix = readPrefix(body);
+        String contentType = response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        boolean jsonFeed = JsonFeedParser.isJsonFeed(prefix, contentType);
+        Charset charset = jsonFeed
+                ? StandardCharsets.UTF_8
+                : FeedCharsetDetector.detect(prefix, contentTypeCharset(contentType),
+                        fetchState != null ? fetchState.getCharset() : null);
+
+        try (body) {
+            ParsedFeed parsed = parseBody(body, prefix, jsonFeed, charset);
+            // 크기 한도에 걸린 본문은 지문을 저장하지 않으므로 나머지를 읽지 않음
+            Long fingerprint = parsed.truncated() ? null : completeFingerprint(body, fingerprintStream);
+
+            // 피드 내용 검증 (항목이 없으면 예외)
+            if (parsed.entryCount() == 0) {
+                throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT, "RSS 피드에 항목이 없습니다.");
+            }
+
+            FeedFetchResult result;
+            Long previousFingerprint = fetchState != null ? fetchState.getBodyFingerprint() : null;
+            if (parsed.truncated()) {
+                // 크기 한도에 걸린 경우 마지막 완전한 항목까지만 반환 (지문은 저장하지 않음)
+                result = FeedFetchResult.truncated(parsed.items(), etag, lastModified, charset.name());
+            } else if (fingerprint != null && fingerprint.equals(previousFingerprint)) {
+                // 조건부 요청을 무시하는 서버: 본문이 이전과 같으면 항목 처리를 건너뜀
+                result = FeedFetchResult.unchanged(etag, lastModified, fingerprint, charset.name());
+            } else {
+                result = FeedFetchResult.modified(parsed.items(), etag, lastModified, fingerprint, charset.name());
+            }
+
+            // WebSub 허브는 Link 헤더를 우선하고, 없으면 피드 본문의 링크 사용
+            List<String> linkHeaders = response.getHeaders().getOrEmpty(HttpHeaders.LINK);
+            String hubUrl = LinkHeaders.find(linkHeaders, "hub");
+            String topicUrl = LinkHeaders.find(linkHeaders, "self");
+            return result.withHub(hubUrl != null ? hubUrl : parsed.hubUrl(),
+                    topicUrl != null ? topicUrl : parsed.selfUrl());
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (FeedException e) {
+            if (e.getCause() instanceof BodyTooLargeException) {
+                throw tooLarge(e.getCause().getMessage());
+            }
+            // 스트림 읽기 중 발생한 네트워크 오류는 접근 실패로 처리되도록 그대로 전달
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (BodyTooLargeException e) {
+            throw tooLarge(e.getMessage());
+        }
     }
 
     /**
-     * 바이트 배열로부터 문자셋 감지
+     * 형식에 맞는 파서로 본문 파싱
+     * JSON Feed / RSS 2.0 / Atom은 스트리밍 파서로 필요한 항목까지만 읽고, 그 밖의 형식은 ROME으로 처리
      */
-    private Charset detectCharset(byte[] rawBytes) {
-        CharsetDetector detector = new CharsetDetector();
-        detector.setText(rawBytes);
-        CharsetMatch match = detector.detect();
+    private ParsedFeed parseBody(InputStream body, byte[] prefix, boolean jsonFeed, Charset charset)
+            throws IOException, XMLStreamException, FeedException {
+        if (jsonFeed) {
+            return JsonFeedParser.parse(body, MAX_ITEMS, this::isValidRssItem);
+        }
 
-        if (match != null) {
-            log.info("감지된 Charset: {}", match.getName());
-            return Charset.forName(match.getName());
-        } else {
-            log.warn("Charset 감지 실패, 기본값 UTF-8 사용");
-            return StandardCharsets.UTF_8;
+        Reader reader = new InputStreamReader(body, charset);
+        Format format = StaxFeedParser.detectFormat(prefix, charset);
+        return format != null
+                ? StaxFeedParser.parse(reader, format, MAX_ITEMS, this::isValidRssItem)
+                : parseWithRome(reader, body, MAX_ITEMS, this::isValidRssItem);
+    }
+
+    /**
+     * ROME으로 전체 문서를 파싱 (RSS 1.0 등 스트리밍 파서가 지원하지 않는 형식)
+     */
+    private ParsedFeed parseWithRome(Reader reader, InputStream body, int maxEntries,
+                                     Predicate<RssItemDto> accept) throws FeedException {
+        SyndFeed feed = new SyndFeedInput().build(reader);
+        drain(body);
+
+        List<RssItemDto> items = feed.getEntries().stream()
+                .map(RssItemDto::from)
+                .filter(accept)
+                .limit(maxEntries)
+                .toList();
+        return new ParsedFeed(items, feed.getEntries().size(), false,
+                findLink(feed, "hub"), findLink(feed, "self"));
+    }
+
+    private String findLink(SyndFeed feed, String rel) {
+        return feed.getLinks().stream()
+                .filter(link -> rel.equals(link.getRel()))
+                .map(SyndLink::getHref)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * WebSub 허브가 전달한 피드 본문 파싱
+     *
+     * @param body        허브가 보낸 본문
+     * @param contentType 본문의 Content-Type 헤더 값
+     * @return 유효한 RSS 항목 목록
+     * @throws GlobalException 본문이 너무 크거나 피드 형식이 아닌 경우
+     */
+    public List<RssItemDto> parseFeedContent(byte[] body, String contentType) {
+        if (body.length > httpProperties.maxBodySize().toBytes()) {
+            throw tooLarge(body.length + " bytes 수신");
+        }
+
+        byte[] prefix = Arrays.copyOf(body, Math.min(body.length, CHARSET_LOOKAHEAD_BYTES));
+        boolean jsonFeed = JsonFeedParser.isJsonFeed(prefix, contentType);
+        Charset charset = jsonFeed
+                ? StandardCharsets.UTF_8
+                : FeedCharsetDetector.detect(prefix, contentTypeCharset(contentType), null);
+
+        try (InputStream input = new ByteArrayInputStream(body)) {
+            return parseBody(input, prefix, jsonFeed, charset).items();
+        } catch (Exception e) {
+            log.warn("전달받은 피드 본문 파싱 실패: {}", e.getMessage());
+            throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT, "유효한 RSS 피드 형식이 아닙니다.");
+        }
+    }
+
+    private GlobalException tooLarge(String detail) {
+        return new GlobalException(ErrorCode.RSS_FEED_TOO_LARGE,
+                "RSS 피드 본문이 " + httpProperties.maxBodySize().toMegabytes() + "MB 한도를 초과했습니다: " + detail);
+    }
+
+    /**
+     * 스트리밍 파서가 필요한 항목까지만 읽고 멈춘 뒤, 나머지 본문까지 읽어 본문 전체의 지문 반환
+     * 파서가 멈춘 위치는 네트워크에서 받은 조각 크기에 따라 달라지므로, 읽은 앞부분만으로는 같은 본문도 지문이 달라짐
+     * 나머지 본문이 크기 한도나 제한 시간에 걸리면 null (파싱한 항목은 그대로 사용하고 지문만 비교 / 저장하지 않음)
+     */
+    private Long completeFingerprint(InputStream body, FingerprintInputStream fingerprintStream) {
+        try {
+            body.transferTo(OutputStream.nullOutputStream());
+            return fingerprintStream.fingerprint();
+        } catch (IOException e) {
+            log.debug("본문 끝까지 읽지 못해 지문을 계산하지 않습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 파서가 읽지 않은 나머지 본문까지 읽어 지문 계산을 완료
+     */
+    private void drain(InputStream body) {
+        try {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (BodyTooLargeException e) {
+            throw tooLarge(e.getMessage());
+        } catch (IOException e) {
+            // 파서가 문서 끝에서 스트림을 닫은 경우 이미 끝까지 읽은 상태
+            log.debug("본문 나머지 읽기 생략: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 문자셋과 형식 판별을 위해 스트림 앞부분을 미리 읽은 뒤 스트림 위치를 되돌림
+     */
+    private byte[] readPrefix(BufferedInputStream body) throws IOException {
+        body.mark(CHARSET_LOOKAHEAD_BYTES);
+        byte[] prefix = body.readNBytes(CHARSET_LOOKAHEAD_BYTES);
+        body.reset();
+
+        if (prefix.length == 0) {
+            throw new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT, "RSS 피드 응답이 비어있습니다.");
+        }
+        return prefix;
+    }
+
+    /**
+     * Content-Type 헤더의 charset 파라미터 (없거나 형식이 잘못되면 null)
+     */
+    private String contentTypeCharset(String contentTypeHeader) {
+        if (!StringUtils.hasText(contentTypeHeader)) {
+            return null;
+        }
+        try {
+            return MediaType.parseMediaType(contentTypeHeader).getParameter("charset");
+        } catch (InvalidMediaTypeException e) {
+            log.debug("Content-Type 헤더 해석 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retry-After 헤더 해석 (초 단위 숫자 또는 HTTP 날짜 형식)
+     *
+     * @return 대기 시간, 헤더가 없거나 해석할 수 없으면 null
+     */
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (!StringUtils.hasText(retryAfter)) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식으로 재시도
+        }
+
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            log.debug("Retry-After 헤더 해석 실패: {}", retryAfter);
+            return null;
+        }
+    }
+
+    /**
+     * 조건부 요청 헤더 생성
+     */
+    private HttpHeaders createConditionalHeaders(FeedFetchState fetchState) {
+        HttpHeaders headers = new HttpHeaders();
+        if (fetchState == null) {
+            return headers;
+        }
+
+        if (StringUtils.hasText(fetchState.getEtag())) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, fetchState.getEtag());
+        }
+        // 서버가 보낸 Last-Modified 값을 그대로 되돌려 보냄 (날짜 재포맷 시 불일치 방지)
+        if (StringUtils.hasText(fetchState.getLastModified())) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, fetchState.getLastModified());
         }
+        return headers;
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.feedping.service;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.domain.RssFeed;
+import com.feedping.dto.RssItemDto;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.sync.FeedEntryWatermark;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 폴링으로 수집했거나 WebSub 허브가 푸시한 항목을 피드에 반영
+ * 두 경로가 같은 기준 기록 / 워터마크 규칙을 따르도록 한 곳에서 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RssEntryIntakeService {
+
+    private final RssItemProcessService rssItemProcessService;
+    private final NotificationMetrics metrics;
+
+    /**
+     * 첫 수집(또는 보관 후 다시 구독)이면 현재 항목을 알림 없이 이미 본 항목으로만 기록하고,
+     * 아니면 워터마크로 이미 처리한 항목을 걸러낸 뒤 남은 항목만 저장소에서 확인하고 알림
+     * 처리 후 워터마크를 전진시키고 기준 기록을 마침 (수집 상태 저장은 호출자가 담당)
+     */
+    public void accept(RssFeed rssFeed, List<RssItemDto> entries) {
+        FeedFetchState fetchState = rssFeed.getFetchState();
+
+        if (fetchState.isBaselinePending()) {
+            int recorded = rssItemProcessService.recordBaseline(rssFeed, entries);
+            log.info("기준 항목 기록: {} 개, 피드: {}", recorded, rssFeed.getUrl());
+        } else {
+            processNewEntries(rssFeed, fetchState, entries);
+        }
+
+        FeedEntryWatermark.advance(fetchState, entries, LocalDateTime.now());
+        fetchState.completeBaseline();
+    }
+
+    private void processNewEntries(RssFeed rssFeed, FeedFetchState fetchState, List<RssItemDto> entries) {
+        List<RssItemDto> fetchedEntries = FeedEntryWatermark.unseen(fetchState, entries);
+        metrics.recordFeedEntriesKnown(entries.size() - fetchedEntries.size());
+
+        if (!fetchedEntries.isEmpty()) {
+            rssItemProcessService.processNewItems(rssFeed, fetchedEntries);
+            log.info("새 항목 발견: {} 개, 피드: {}", fetchedEntries.size(), rssFeed.getUrl());
+        } else {
+            log.info("새 항목이 없습니다: {}", rssFeed.getUrl());
+        }
+    }
+
+}
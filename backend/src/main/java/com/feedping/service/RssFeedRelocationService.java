@@ -0,0 +1,88 @@
+package com.feedping.service;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.domain.Subscription;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.repository.RssFeedRepository;
+import com.feedping.repository.RssItemRepository;
+import com.feedping.repository.SubscriptionRepository;
+import com.feedping.repository.WebSubSubscriptionRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주소가 바뀐 피드 정리
+ * 영구 리다이렉트로 알게 된 새 주소로 피드를 옮기고, 같은 피드가 이미 있으면 구독과 항목을 합침
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RssFeedRelocationService {
+
+    private final RssFeedRepository rssFeedRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final RssItemRepository rssItemRepository;
+    private final WebSubSubscriptionRepository webSubSubscriptionRepository;
+    private final NotificationMetrics metrics;
+
+    /**
+     * 피드를 새 주소로 이전
+     *
+     * @param rssFeedId 이전할 피드 ID
+     * @param newUrl    영구 리다이렉트의 최종 주소
+     * @return 이전 후 남은 피드 ID (새 주소의 피드와 합쳐졌으면 그 피드의 ID)
+     */
+    @Transactional
+    public Long relocate(Long rssFeedId, String newUrl) {
+        RssFeed source = rssFeedRepository.findById(rssFeedId).orElse(null);
+        if (source == null || source.getUrl().equals(newUrl)) {
+            return rssFeedId;
+        }
+
+        Optional<RssFeed> existing = rssFeedRepository.findByUrl(newUrl);
+        if (existing.isPresent()) {
+            merge(source, existing.get());
+            return existing.get().getId();
+        }
+
+        log.info("피드 주소가 영구 이동하여 변경합니다: {} -> {}", source.getUrl(), newUrl);
+        source.changeUrl(newUrl);
+        metrics.recordFeedRelocated("relocated");
+        return source.getId();
+    }
+
+    /**
+     * 같은 피드로 확인된 두 피드를 하나로 합침
+     * 구독과 항목을 대상 피드로 옮기고 원래 피드는 삭제 (이미 대상 피드를 구독 중인 회원의 구독은 삭제)
+     * 폴링 스케줄에서 원래 피드를 제외하는 것은 호출 측에서 처리
+     */
+    @Transactional
+    public void merge(RssFeed source, RssFeed target) {
+        int movedSubscriptions = 0;
+        for (Subscription subscription : subscriptionRepository.findByRssFeed(source)) {
+            if (subscriptionRepository.existsByMemberAndRssFeed(subscription.getMember(), target)) {
+                subscriptionRepository.delete(subscription);
+            } else {
+                subscription.changeRssFeed(target);
+                movedSubscriptions++;
+            }
+        }
+
+        if (movedSubscriptions > 0) {
+            target.adopt();
+        }
+
+        // 항목 링크는 전체에서 유일하므로 그대로 옮겨도 중복되지 않음 (수신 기록은 항목을 가리키므로 유지)
+        int movedItems = rssItemRepository.moveItems(source, target);
+        webSubSubscriptionRepository.findByRssFeed(source).ifPresent(webSubSubscriptionRepository::delete);
+        rssFeedRepository.delete(source);
+
+        metrics.recordFeedRelocated("merged");
+        log.info("같은 피드를 합쳤습니다: {} -> {} (구독 {} 건, 항목 {} 건 이전)",
+                source.getUrl(), target.getUrl(), movedSubscriptions, movedItems);
+    }
+
+}
@@ -1,17 +1,30 @@
 package com.feedping.service;
 
+import com.feedping.domain.FeedFetchState;
 import com.feedping.domain.RssFeed;
-import com.feedping.dto.RssItemDto;
+import com.feedping.dto.FeedFetchResult;
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.exception.RssFetchThrottledException;
 import com.feedping.metrics.NotificationMetrics;
 import com.feedping.repository.RssFeedRepository;
-import io.micrometer.core.instrument.Timer;
+import com.feedping.sync.FeedBackoffPolicy;
+import com.feedping.sync.FeedImpactRanker;
+import com.feedping.sync.FeedPollScheduler;
+import com.feedping.sync.FeedSyncCluster;
+import com.feedping.sync.FeedSyncEngine;
+import com.feedping.sync.FeedSyncReport;
+import com.feedping.sync.FeedSyncStages;
+import com.feedping.sync.PollIntervalCalculator;
+import com.feedping.sync.PollSpreader;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -21,103 +34,276 @@ import org.springframework.stereotype.Service;
 public class RssFeedSyncService {
 
     private final RssFeedRepository rssFeedRepository;
-    private final RssItemProcessService rssItemProcessService;
+    private final RssEntryIntakeService rssEntryIntakeService;
     private final RssCommonService rssCommonService;
     private final NotificationMetrics metrics;
+    private final FeedSyncEngine feedSyncEngine;
+    private final FeedPollScheduler feedPollScheduler;
+    private final PollIntervalCalculator pollIntervalCalculator;
+    private final PollSpreader pollSpreader;
+    private final FeedBackoffPolicy feedBackoffPolicy;
+    private final WebSubService webSubService;
+    private final RssFeedRelocationService rssFeedRelocationService;
+    private final FeedSyncCluster feedSyncCluster;
+    private final FeedImpactRanker feedImpactRanker;
+
+    // 파이프라인 단계별 작업 (수집 / 저장)
+    private final FeedSyncStages syncStages = new SyncStages();
 
     /**
-     * 모든 RSS 피드 동기화 (5분 간격)
+     * 폴링 시각이 된 RSS 피드 동기화 (30초 간격으로 확인)
+     * 피드별 폴링 간격은 발행 주기에 맞춰 학습됨
+     * 여러 인스턴스로 실행 중이면 이 인스턴스가 담당하는 피드만 동기화
      */
-    @Scheduled(fixedDelay = 5 * 60 * 1000)
-    public void syncAllFeeds() {
-        List<RssFeed> rssFeeds = rssFeedRepository.findAll();
-        log.info("전체 RSS 피드 동기화 시작: {} 개 피드", rssFeeds.size());
+    @Scheduled(fixedDelay = 30 * 1000)
+    public void syncDueFeeds() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueFeedIds = feedSyncCluster.claim(feedPollScheduler.pollDue(now), now);
+        if (dueFeedIds.isEmpty()) {
+            return;
+        }
 
-        // 전체 동기화 작업 타이머 시작
-        Timer.Sample overallSyncTimer = metrics.startTimer();
+        List<RssFeed> rssFeeds = activeFeeds(dueFeedIds);
+        if (rssFeeds.isEmpty()) {
+            return;
+        }
+
+        // 구독자가 많고 새 글 가능성이 높은 피드부터 수집하고, 처리량을 넘는 영향이 작은 피드는 미룸
+        FeedImpactRanker.Selection selection = feedImpactRanker.select(rssFeeds, feedSyncEngine.cycleCapacity());
+        deferFeeds(selection.deferred());
+        log.info("RSS 피드 동기화 시작: {} 개 피드, 미룬 피드: {} 개 (예약된 전체 피드: {} 개)",
+                selection.admitted().size(), selection.deferred().size(), feedPollScheduler.size());
 
         try {
-            // 모든 피드에 대한 비동기 작업 시작
-            List<CompletableFuture<Boolean>> futures = rssFeeds.stream()
-                    .map(this::syncFeedAsync)
-                    .collect(Collectors.toList());
-
-            // 모든 작업 완료 대기 (최대 3분)
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                    .orTimeout(3, TimeUnit.MINUTES)
-                    .whenComplete((result, ex) -> {
-                        if (ex != null) {
-                            log.warn("일부 피드 동기화가 타임아웃되었습니다", ex);
-                        }
-
-                        // 결과 집계
-                        long successCount = futures.stream()
-                                .filter(f -> !f.isCompletedExceptionally())
-                                .filter(f -> {
-                                    try {
-                                        return f.isDone() && f.get();
-                                    } catch (Exception e) {
-                                        return false;
-                                    }
-                                })
-                                .count();
-
-                        log.info("전체 RSS 피드 동기화 완료: 성공: {}, 실패: {}",
-                                successCount, rssFeeds.size() - successCount);
-
-                        // 전체 동기화 작업 완료 메트릭 기록
-                        metrics.stopFeedProcessingTimer(overallSyncTimer);
-                    });
+            // 피드별 가상 스레드에서 병렬 동기화 후 모든 피드가 끝날 때까지 대기 (마감 시간을 넘긴 피드는 엔진이 중단)
+            FeedSyncReport report = feedSyncEngine.run(selection.admitted(), syncStages);
+
+            log.info("RSS 피드 동기화 완료: 성공: {}, 실패: {}, 시간 초과: {}, 소요 시간: {}ms",
+                    report.succeeded(), report.failed(), report.timedOut(), report.elapsed().toMillis());
         } catch (Exception e) {
-            log.error("피드 동기화 스케줄링 중 오류 발생", e);
-            metrics.stopFeedProcessingTimer(overallSyncTimer);
+            log.error("피드 동기화 실행 중 오류 발생", e);
         }
     }
 
     /**
-     * 단일 RSS 피드를 비동기적으로 동기화
+     * 폴링 시각이 된 피드 중 동기화할 피드 로드
+     * 구독자가 모두 떠났거나 삭제된 피드는 폴링 스케줄에서 제외 (다른 인스턴스에서 바뀐 경우 여기서 처음 확인됨)
      */
-    @Async("feedSyncExecutor")
-    public CompletableFuture<Boolean> syncFeedAsync(RssFeed rssFeed) {
-        try {
-            syncFeed(rssFeed);
-            return CompletableFuture.completedFuture(true);
-        } catch (Exception e) {
-            log.error("RSS 피드 비동기 동기화 중 오류 발생: {}", rssFeed.getUrl(), e);
-            return CompletableFuture.completedFuture(false);
+    private List<RssFeed> activeFeeds(List<Long> dueFeedIds) {
+        Set<Long> inactiveIds = new HashSet<>(dueFeedIds);
+        List<RssFeed> active = new ArrayList<>(dueFeedIds.size());
+        for (RssFeed rssFeed : rssFeedRepository.findAllById(dueFeedIds)) {
+            if (!rssFeed.isOrphaned()) {
+                inactiveIds.remove(rssFeed.getId());
+                active.add(rssFeed);
+            }
         }
+
+        for (Long rssFeedId : inactiveIds) {
+            feedPollScheduler.unschedule(rssFeedId);
+            feedSyncCluster.release(rssFeedId);
+        }
+        return active;
     }
 
     /**
-     * 단일 RSS 피드 동기화
+     * 처리량을 넘어 이번 사이클에서 제외한 피드
+     * 폴링 시각을 꺼낼 때 잡아 둔 임시 예약(최소 간격 뒤)에 다시 수집되며, 다른 인스턴스가 맡을 수 있도록 임대 해제
      */
-    public void syncFeed(RssFeed rssFeed) {
-        // 단일 피드 동기화 타이머 시작
-        Timer.Sample feedTimer = metrics.startTimer();
+    private void deferFeeds(List<RssFeed> deferred) {
+        if (deferred.isEmpty()) {
+            return;
+        }
+        deferred.forEach(rssFeed -> feedSyncCluster.release(rssFeed.getId()));
+        metrics.recordFeedsDeferred(deferred.size());
+        log.warn("동기화 처리량을 넘어 영향이 작은 피드 {} 개를 다음 사이클로 미룹니다", deferred.size());
+    }
 
-        try {
-            log.info("RSS 피드 동기화 시작: {}", rssFeed.getUrl());
+    /**
+     * 수집 단계: 저장된 검증자로 조건부 요청 후 스트리밍 파싱 (DB 접근 없음)
+     *
+     * @return 저장 단계에서 실행할 작업
+     */
+    private Runnable fetchFeed(RssFeed rssFeed) {
+        log.info("RSS 피드 동기화 시작: {}", rssFeed.getUrl());
+        FeedFetchResult result = rssCommonService.fetchAndParseRssFeed(rssFeed.getUrl(), rssFeed.getFetchState());
+        return () -> persistFeed(rssFeed, result);
+    }
 
-            // 항목 반환 모드로 RSS 피드 파싱 (validateOnly = false)
-            List<RssItemDto> fetchedEntries = rssCommonService.fetchAndParseRssFeed(rssFeed.getUrl(), false);
+    /**
+     * 저장 단계: 새 항목 처리, 수집 상태 저장 및 다음 폴링 예약
+     */
+    private void persistFeed(RssFeed rssFeed, FeedFetchResult result) {
+        try {
+            FeedFetchState fetchState = rssFeed.getFetchState();
 
-            if (!fetchedEntries.isEmpty()) {
-                rssItemProcessService.processNewItems(rssFeed, fetchedEntries);
-                log.info("새 항목 발견: {} 개, 피드: {}", fetchedEntries.size(), rssFeed.getUrl());
+            if (result.isNotModified()) {
+                // 304 Not Modified: 파싱과 항목 처리를 모두 건너뜀
+                metrics.recordFeedNotModified();
+                log.info("변경 사항이 없습니다 (304 Not Modified): {}", rssFeed.getUrl());
+            } else if (result.isUnchanged()) {
+                // 검증자를 무시하는 서버: 본문 지문이 같으면 항목 처리 트랜잭션을 건너뜀
+                metrics.recordFeedModified();
+                metrics.recordFeedSkippedUnchanged();
+                log.info("본문이 이전과 같아 처리를 건너뜁니다: {}", rssFeed.getUrl());
             } else {
-                log.info("새 항목이 없습니다: {}", rssFeed.getUrl());
+                metrics.recordFeedModified();
+                rssEntryIntakeService.accept(rssFeed, result.getItems());
+            }
+
+            // 변경이 없던 응답도 이전에 처리한 본문과 같으므로 기준 기록을 마친 것으로 봄
+            fetchState.completeBaseline();
+
+            // 다음 조건부 요청을 위해 검증자 저장 및 발행 주기에 맞춰 다음 폴링 예약
+            LocalDateTime now = LocalDateTime.now();
+            fetchState.updateValidators(result.getEtag(), result.getLastModified());
+            fetchState.updateBodyFingerprint(result.getBodyFingerprint());
+            fetchState.updateCharset(result.getCharset());
+            fetchState.markOversized(result.isTruncated());
+            if (result.isTruncated()) {
+                metrics.recordFeedOversized();
+                log.warn("본문 크기 한도를 넘어 일부 항목만 처리했습니다: {}", rssFeed.getUrl());
+            }
+            fetchState.recordFetch(now);
+            fetchState.recordSuccess(now);
+            Duration pollInterval = pollIntervalCalculator.calculate(fetchState, result, now);
+            fetchState.scheduleNextPoll(pollInterval, now);
+            // 같은 사이클에 수집된 피드가 다음에도 함께 몰리지 않도록 피드 고유 위상에 맞춤
+            fetchState.deferNextPoll(pollSpreader.align(rssFeed.getId(), fetchState.getNextPollAt(), pollInterval));
+
+            // 허브가 푸시하는 피드는 임대 만료 시점까지 폴링하지 않음
+            LocalDateTime pushLeaseExpiry = webSubService.pushLeaseExpiry(rssFeed);
+            if (pushLeaseExpiry != null) {
+                fetchState.deferNextPoll(pushLeaseExpiry);
+            }
+            rssFeedRepository.save(rssFeed);
+            feedPollScheduler.schedule(rssFeed.getId(), fetchState.getNextPollAt());
+
+            // 영구 이동한 피드는 새 주소로 옮긴 뒤, 피드가 WebSub 허브를 알리면 푸시 구독 요청
+            if (relocateIfMoved(rssFeed, result.getMovedTo())) {
+                webSubService.subscribeIfNeeded(rssFeed, result.getHubUrl(), result.getTopicUrl());
             }
 
             // 피드 처리 성공 메트릭 기록
             metrics.recordFeedProcessed();
-        } catch (Exception e) {
-            // 실패 처리
-            metrics.recordFeedFailed();
-            log.error("RSS 피드 동기화 중 오류 발생: {}", rssFeed.getUrl(), e);
-            throw e;  // 호출자에게 예외 전파 (syncFeedAsync에서 처리)
+        } catch (RuntimeException e) {
+            recordFailure(rssFeed, e);
+            throw e;  // 호출자에게 예외 전파 (FeedSyncEngine에서 집계)
         } finally {
-            // 성공/실패 여부와 관계없이 타이머 종료
-            metrics.stopFeedProcessingTimer(feedTimer);
+            // 성공/실패 여부와 관계없이 다른 인스턴스를 위한 임대 해제
+            feedSyncCluster.release(rssFeed.getId());
+        }
+    }
+
+    private void recordFailure(RssFeed rssFeed, RuntimeException e) {
+        metrics.recordFeedFailed();
+        handleFailure(rssFeed, e);
+    }
+
+    /**
+     * 영구 리다이렉트로 알게 된 새 주소 반영
+     * 다음 폴링부터는 리다이렉트 없이 새 주소로 바로 요청하며, 새 주소의 피드가 이미 있으면 그 피드로 합침
+     *
+     * @return 피드가 그대로 남아 있으면 true, 다른 피드로 합쳐져 삭제되었으면 false
+     */
+    private boolean relocateIfMoved(RssFeed rssFeed, String movedTo) {
+        if (movedTo == null || movedTo.equals(rssFeed.getUrl())) {
+            return true;
+        }
+
+        try {
+            Long survivorId = rssFeedRelocationService.relocate(rssFeed.getId(), movedTo);
+            if (!survivorId.equals(rssFeed.getId())) {
+                feedPollScheduler.unschedule(rssFeed.getId());
+                return false;
+            }
+            rssFeed.changeUrl(movedTo);
+        } catch (Exception e) {
+            // 주소 변경에 실패해도 이번 동기화 결과는 유효하므로 다음 수집에서 다시 시도
+            log.warn("피드 주소 변경 실패: {} -> {} - {}", rssFeed.getUrl(), movedTo, e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 실패 기록 후 연속 실패 횟수에 따라 재시도를 미룸
+     * 피드 서버 문제로 인한 예상된 실패는 스택 트레이스 없이 기록
+     */
+    private void handleFailure(RssFeed rssFeed, Exception e) {
+        FeedFetchState fetchState = rssFeed.getFetchState();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 서버의 요청 제한은 피드 장애가 아니므로 연속 실패로 세지 않음 (호스트 단위 대기는 HostFetchScheduler가 처리)
+        if (e instanceof RssFetchThrottledException) {
+            log.warn("RSS 피드 서버 요청 제한: {} - {}", rssFeed.getUrl(), e.getMessage());
+            feedPollScheduler.schedule(rssFeed.getId(), now.plus(pollIntervalCalculator.fallback(fetchState)));
+            return;
+        }
+
+        int failures = fetchState.recordFailure(errorName(e));
+        if (isOversized(e)) {
+            metrics.recordFeedOversized();
+            fetchState.markOversized(true);
+        }
+        Duration pollInterval = pollIntervalCalculator.fallback(fetchState);
+        fetchState.deferNextPoll(now.plus(feedBackoffPolicy.nextAttemptDelay(fetchState, pollInterval)));
+
+        if (e instanceof GlobalException) {
+            log.warn("RSS 피드 동기화 실패 (연속 {}회, 다음 시도: {}): {} - {}",
+                    failures, fetchState.getNextPollAt(), rssFeed.getUrl(), e.getMessage());
+        } else {
+            log.error("RSS 피드 동기화 중 오류 발생 (연속 {}회): {}", failures, rssFeed.getUrl(), e);
+        }
+        if (feedBackoffPolicy.justOpened(fetchState)) {
+            metrics.recordFeedCircuitOpened();
+            log.warn("연속 {}회 실패로 피드를 차단합니다. 이후에는 드물게 상태만 확인합니다: {}",
+                    failures, rssFeed.getUrl());
+        }
+
+        try {
+            rssFeedRepository.save(rssFeed);
+        } catch (Exception saveException) {
+            log.warn("피드 수집 상태 저장 실패: {} - {}", rssFeed.getUrl(), saveException.getMessage());
+        }
+        feedPollScheduler.schedule(rssFeed.getId(), fetchState.getNextPollAt());
+    }
+
+    private String errorName(Exception e) {
+        return e instanceof GlobalException globalException
+                ? globalException.getErrorCode().name()
+                : e.getClass().getSimpleName();
+    }
+
+    private boolean isOversized(Exception e) {
+        return e instanceof GlobalException globalException
+                && globalException.getErrorCode() == ErrorCode.RSS_FEED_TOO_LARGE;
+    }
+
+    /**
+     * 동기화 파이프라인에 넘기는 단계별 작업
+     */
+    private class SyncStages implements FeedSyncStages {
+
+        @Override
+        public Runnable fetch(RssFeed feed) {
+            return fetchFeed(feed);
+        }
+
+        @Override
+        public Runnable fetchFailed(RssFeed feed, RuntimeException cause) {
+            return () -> {
+                try {
+                    recordFailure(feed, cause);
+                } finally {
+                    feedSyncCluster.release(feed.getId());
+                }
+            };
+        }
+
+        @Override
+        public void skipped(RssFeed feed) {
+            // 폴링 시각을 꺼낼 때 잡아 둔 임시 예약에 다시 수집됨
+            feedSyncCluster.release(feed.getId());
         }
     }
 
@@ -10,9 +10,12 @@ import com.feedping.event.RssNotificationEvent;
 import com.feedping.repository.MemberReceivedItemRepository;
 import com.feedping.repository.RssItemRepository;
 import com.feedping.repository.SubscriptionRepository;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -31,15 +34,7 @@ public class RssItemProcessService {
     protected void processNewItems(RssFeed rssFeed, List<RssItemDto> entries) {
         List<RssItem> items = entries.stream()
                 .map(entry -> rssItemRepository.findByLink(entry.getLink())
-                        .orElseGet(() -> rssItemRepository.save(
-                                RssItem.builder()
-                                        .rssFeed(rssFeed)
-                                        .link(entry.getLink())
-                                        .title(entry.getTitle())
-                                        .description(entry.getDescription())
-                                        .publishedAt(entry.getPublishedAt())
-                                        .build()
-                        )))
+                        .orElseGet(() -> rssItemRepository.save(toRssItem(rssFeed, entry))))
                 .toList();
 
         if (!items.isEmpty()) {
@@ -57,12 +52,42 @@ public class RssItemProcessService {
         }
     }
 
+    /**
+     * 기준 기록: 현재 항목을 알림 없이 이미 본 항목으로 저장 (피드의 첫 수집 등)
+     * 저장된 링크는 한 번에 조회하고 새 항목만 일괄 저장
+     */
+    @Transactional
+    protected int recordBaseline(RssFeed rssFeed, List<RssItemDto> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Set<String> knownLinks = new HashSet<>(
+                rssItemRepository.findLinksByLinkIn(entries.stream().map(RssItemDto::getLink).toList()));
+
+        List<RssItem> baselineItems = entries.stream()
+                .filter(entry -> knownLinks.add(entry.getLink()))
+                .map(entry -> toRssItem(rssFeed, entry))
+                .toList();
+        rssItemRepository.saveAll(baselineItems);
+        return baselineItems.size();
+    }
+
+    private RssItem toRssItem(RssFeed rssFeed, RssItemDto entry) {
+        return RssItem.builder()
+                .rssFeed(rssFeed)
+                .link(entry.getLink())
+                .title(entry.getTitle())
+                .description(entry.getDescription())
+                .publishedAt(entry.getPublishedAt())
+                .build();
+    }
+
     private Map<Member, List<RssItem>> createNotificationMap(List<Subscription> subscriptions, List<RssItem> newItems) {
         Map<Member, List<RssItem>> notificationMap = new HashMap<>();
 
         for (Subscription subscription : subscriptions) {
             Member subscriber = subscription.getMember();
-            List<RssItem> unnotifiedItems = filterUnnotifiedItems(subscriber, newItems);
+            List<RssItem> unnotifiedItems = filterUnnotifiedItems(subscriber, itemsSince(subscription, newItems));
 
             if (!unnotifiedItems.isEmpty()) {
                 notificationMap.put(subscriber, unnotifiedItems);
@@ -73,6 +98,17 @@ public class RssItemProcessService {
         return notificationMap;
     }
 
+    // 구독 이전에 이미 저장되어 있던 항목은 새 구독자에게 보내지 않음
+    private List<RssItem> itemsSince(Subscription subscription, List<RssItem> items) {
+        LocalDateTime subscribedAt = subscription.getCreatedAt();
+        if (subscribedAt == null) {
+            return items;
+        }
+        return items.stream()
+                .filter(item -> item.getCreatedAt() == null || !item.getCreatedAt().isBefore(subscribedAt))
+                .toList();
+    }
+
     private List<RssItem> filterUnnotifiedItems(Member subscriber, List<RssItem> items) {
         return items.stream()
                 .filter(item -> !memberReceivedItemRepository
@@ -7,12 +7,16 @@ import com.feedping.dto.request.RssSubscriptionByEmailRequest;
 import com.feedping.dto.request.RssSubscriptionRequest;
 import com.feedping.dto.request.RssUnsubscribeRequest;
 import com.feedping.dto.response.RssSubscriptionPageResponse;
+import com.feedping.event.RssFeedRegisteredEvent;
 import com.feedping.exception.ErrorCode;
 import com.feedping.exception.GlobalException;
 import com.feedping.repository.MemberRepository;
 import com.feedping.repository.RssFeedRepository;
 import com.feedping.repository.SubscriptionRepository;
+import com.feedping.rss.FeedUrls;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,6 +32,7 @@ public class SubscriptionService {
     private final AuthTokenService authTokenService;
     private final MemberRepository memberRepository;
     private final RssValidationService rssValidationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void subscribeRss(RssSubscriptionRequest request) {
         String email = request.getEmail();
@@ -65,16 +70,25 @@ public class SubscriptionService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.SUBSCRIPTION_NOT_FOUND));
 
         subscriptionRepository.delete(subscription);
+
+        // 마지막 구독자가 떠난 피드는 폴링을 멈추고 보관 기간 후 삭제 (그 전에 다시 구독하면 복귀)
+        RssFeed rssFeed = subscription.getRssFeed();
+        if (!subscriptionRepository.existsByRssFeed(rssFeed)) {
+            rssFeed.markOrphaned(LocalDateTime.now());
+        }
     }
 
     private void subscribe(Member member, String rssUrl, String siteName) {
-        // RSS Feed가 DB에 없으면 저장
-        RssFeed rssFeed = rssFeedRepository.findByUrl(rssUrl)
-                .orElseGet(() -> rssFeedRepository.save(
-                        RssFeed.builder()
-                                .url(rssUrl)
-                                .build()
-                ));
+        // 같은 피드의 다른 표기(스킴, www, 끝 슬래시, 추적 파라미터 등)로 이미 등록되어 있으면 그 피드를 구독
+        RssFeed rssFeed = rssFeedRepository.findFirstByCanonicalUrlOrderByIdAsc(FeedUrls.canonicalize(rssUrl))
+                .or(() -> rssFeedRepository.findByUrl(rssUrl))
+                .orElseGet(() -> registerRssFeed(rssUrl));
+
+        // 보관 중인 피드를 다시 구독하면 폴링 대상으로 복귀
+        if (rssFeed.isOrphaned()) {
+            rssFeed.adopt();
+            eventPublisher.publishEvent(new RssFeedRegisteredEvent(rssFeed.getId()));
+        }
 
         // 이미 구독 중인지 확인
         if (subscriptionRepository.existsByMemberAndRssFeed(member, rssFeed)) {
@@ -90,6 +104,19 @@ public class SubscriptionService {
         subscriptionRepository.save(subscription);
     }
 
+    private RssFeed registerRssFeed(String rssUrl) {
+        RssFeed newFeed = RssFeed.builder()
+                .url(rssUrl)
+                .build();
+        // 첫 수집에서는 현재 글을 알림 없이 기준으로만 기록 (예전 글을 한꺼번에 보내지 않도록)
+        newFeed.getFetchState().requestBaseline();
+        RssFeed rssFeed = rssFeedRepository.save(newFeed);
+
+        // 트랜잭션 커밋 후 폴링 스케줄에 추가
+        eventPublisher.publishEvent(new RssFeedRegisteredEvent(rssFeed.getId()));
+        return rssFeed;
+    }
+
     private Member getMemberByEmail(String email) {
         return memberRepository.findByEmail(email)
                 .orElseThrow(() -> new GlobalException(ErrorCode.NOT_FOUND_MEMBER));
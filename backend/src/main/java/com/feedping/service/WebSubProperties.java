@@ -0,0 +1,23 @@
+package com.feedping.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebSub(PubSubHubbub) 구독 설정
+ * 허브가 접근할 수 있는 공개 콜백 주소가 있어야 하므로 기본값은 비활성화
+ */
+@ConfigurationProperties(prefix = "feed.websub")
+public record WebSubProperties(
+        boolean enabled,
+        String callbackBaseUrl,       // 허브가 호출할 콜백 기본 주소 (예: https://api.feedping.co.kr)
+        Duration leaseDuration,       // 허브에 요청할 구독 임대 기간
+        Duration renewBefore,         // 만료 이 시간 전에 구독 갱신 (확인되지 않은 요청의 재시도 간격으로도 사용)
+        Duration verificationWindow   // 구독 요청 후 허브의 확인 요청을 받아들이는 기간
+) {
+    public WebSubProperties {
+        leaseDuration = leaseDuration != null ? leaseDuration : Duration.ofDays(10);
+        renewBefore = renewBefore != null ? renewBefore : Duration.ofDays(1);
+        verificationWindow = verificationWindow != null ? verificationWindow : Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,330 @@
+package com.feedping.service;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.domain.RssFeed;
+import com.feedping.domain.WebSubStatus;
+import com.feedping.domain.WebSubSubscription;
+import com.feedping.dto.RssItemDto;
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.repository.RssFeedRepository;
+import com.feedping.repository.WebSubSubscriptionRepository;
+import com.feedping.sync.FeedPollScheduler;
+import com.feedping.sync.FeedSyncCluster;
+import com.feedping.sync.FeedSyncEngine;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * WebSub(PubSubHubbub) 구독자
+ * 피드가 알린 허브에 구독을 요청하고, 허브가 푸시한 본문을 폴링 없이 바로 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class WebSubService {
+
+    private static final String CALLBACK_PATH = "/websub/callback/";
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final WebSubSubscriptionRepository webSubSubscriptionRepository;
+    private final RssFeedRepository rssFeedRepository;
+    private final RssCommonService rssCommonService;
+    private final RssEntryIntakeService rssEntryIntakeService;
+    private final FeedPollScheduler feedPollScheduler;
+    private final FeedSyncCluster feedSyncCluster;
+    private final FeedSyncEngine feedSyncEngine;
+    private final RestTemplate restTemplate;
+    private final WebSubProperties properties;
+    private final NotificationMetrics metrics;
+
+    /**
+     * 수집 중 발견한 허브에 구독 요청
+     * 허브가 확인 요청을 바로 보낼 수 있으므로 구독 정보를 먼저 저장한 뒤 요청 (트랜잭션 밖에서 실행)
+     *
+     * @param topicUrl 피드의 rel="self" 주소 (없으면 피드 URL 사용)
+     */
+    public void subscribeIfNeeded(RssFeed rssFeed, String hubUrl, String topicUrl) {
+        if (!properties.enabled() || !StringUtils.hasText(hubUrl)) {
+            return;
+        }
+
+        String topic = StringUtils.hasText(topicUrl) ? topicUrl : rssFeed.getUrl();
+        LocalDateTime now = LocalDateTime.now();
+        WebSubSubscription subscription = webSubSubscriptionRepository.findByRssFeed(rssFeed).orElse(null);
+
+        if (subscription == null) {
+            subscription = webSubSubscriptionRepository.save(WebSubSubscription.builder()
+                    .rssFeed(rssFeed)
+                    .hubUrl(hubUrl)
+                    .topicUrl(topic)
+                    .secret(newSecret())
+                    .callbackToken(newCallbackToken())
+                    .build());
+        } else if (!needsRequest(subscription, hubUrl, topic, now)) {
+            return;
+        }
+
+        requestSubscription(subscription, hubUrl, topic, now);
+    }
+
+    /**
+     * 푸시를 받는 중이면 임대 만료 시각 반환 (그때까지 폴링하지 않음)
+     *
+     * @return 임대 만료 시각, 푸시를 받지 않는 피드면 null
+     */
+    public LocalDateTime pushLeaseExpiry(RssFeed rssFeed) {
+        if (!properties.enabled()) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return webSubSubscriptionRepository.findByRssFeed(rssFeed)
+                .filter(subscription -> subscription.isActive(now))
+                .map(WebSubSubscription::getLeaseExpiresAt)
+                .orElse(null);
+    }
+
+    /**
+     * 허브의 구독 확인 요청 처리
+     * 구독 확인은 최근에 보낸 요청이 아직 확인되지 않은 경우에만 받아들이며, 이 서비스는 구독 해지를 요청하지 않으므로 해지 확인은 거부
+     * 허브가 제시한 임대 기간은 요청한 기간을 넘지 않도록 제한
+     *
+     * @return 허브에 그대로 돌려줄 challenge 값
+     * @throws GlobalException 구독 정보가 없거나, 주소가 다르거나, 확인을 기다리는 요청이 없는 경우
+     *                         (허브가 구독을 포기하도록 404 응답)
+     */
+    @Transactional
+    public String verifyIntent(String callbackToken, String mode, String topic, String challenge, Long leaseSeconds) {
+        WebSubSubscription subscription = findSubscription(callbackToken);
+        if (!subscription.getTopicUrl().equals(topic)) {
+            throw new GlobalException(ErrorCode.WEBSUB_SUBSCRIPTION_NOT_FOUND, "구독한 주소와 다릅니다: " + topic);
+        }
+
+        RssFeed rssFeed = subscription.getRssFeed();
+        LocalDateTime now = LocalDateTime.now();
+        switch (mode) {
+            case "subscribe" -> {
+                if (!subscription.isAwaitingVerification(now.minus(properties.verificationWindow()))) {
+                    throw new GlobalException(ErrorCode.WEBSUB_SUBSCRIPTION_NOT_FOUND,
+                            "확인을 기다리는 구독 요청이 없습니다: " + topic);
+                }
+                subscription.activate(now.plus(grantedLease(leaseSeconds)));
+
+                // 임대 기간 동안 폴링 중단 (만료 시점에 한 번 폴링하여 누락 확인)
+                // 동기화 중인 수집 상태를 덮어쓰지 않도록 피드 전체가 아닌 다음 폴링 시각만 갱신
+                rssFeedRepository.updateNextPollAt(rssFeed.getId(), subscription.getLeaseExpiresAt());
+                feedPollScheduler.schedule(rssFeed.getId(), subscription.getLeaseExpiresAt());
+                log.info("WebSub 구독 확인: {} (만료: {})", topic, subscription.getLeaseExpiresAt());
+            }
+            case "denied" -> {
+                returnToPolling(subscription, now);
+                log.info("WebSub 구독 거부: {}", topic);
+            }
+            case "unsubscribe" -> throw new GlobalException(ErrorCode.WEBSUB_SUBSCRIPTION_NOT_FOUND,
+                    "구독 해지를 요청하지 않았습니다: " + topic);
+            default -> throw new GlobalException(ErrorCode.INVALID_WEBSUB_REQUEST, "지원하지 않는 hub.mode: " + mode);
+        }
+        return challenge != null ? challenge : "";
+    }
+
+    /**
+     * 허브가 푸시한 본문 처리
+     * 서명이 맞지 않는 본문은 무시하되, 허브가 재전송하지 않도록 정상 응답 (WebSub 명세)
+     * 폴링과 같은 기준 기록 / 워터마크 규칙으로 반영하여, 이미 처리한 항목이나 구독 전 항목을 다시 알리지 않음
+     * 같은 피드를 동기화 중이면 항목 저장이 겹치지 않도록 거부하여 허브가 잠시 후 다시 전달하게 함
+     *
+     * @throws GlobalException 피드를 동기화 중인 경우 (허브가 재전송하도록 503 응답)
+     */
+    public void receive(String callbackToken, String signature, String contentType, byte[] body) {
+        WebSubSubscription subscription = findSubscription(callbackToken);
+        if (subscription.getStatus() == WebSubStatus.EXPIRED) {
+            metrics.recordWebSubNotification("ignored");
+            log.warn("만료된 WebSub 구독으로 전달된 본문을 무시합니다: {}", subscription.getTopicUrl());
+            return;
+        }
+        if (!isValidSignature(subscription.getSecret(), signature, body)) {
+            metrics.recordWebSubNotification("rejected");
+            log.warn("WebSub 본문 서명이 올바르지 않아 무시합니다: {}", subscription.getTopicUrl());
+            return;
+        }
+
+        List<RssItemDto> items = rssCommonService.parseFeedContent(body, contentType);
+        if (!items.isEmpty()) {
+            acceptPushedItems(subscription.getRssFeed(), items);
+        }
+        metrics.recordWebSubNotification("accepted");
+        log.info("WebSub 푸시 수신: {} 개 항목, 피드: {}", items.size(), subscription.getTopicUrl());
+    }
+
+    /**
+     * 만료가 가까운 구독 갱신 (1시간 간격으로 확인)
+     * 이미 만료된 구독은 폴링으로 복귀
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void renewLeases() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<WebSubSubscription> expiring = webSubSubscriptionRepository.findByStatusAndLeaseExpiresAtBefore(
+                WebSubStatus.ACTIVE, now.plus(properties.renewBefore()));
+
+        for (WebSubSubscription subscription : expiring) {
+            if (!subscription.isActive(now)) {
+                returnToPolling(subscription, now);
+                webSubSubscriptionRepository.save(subscription);
+                log.info("WebSub 구독 만료, 폴링으로 복귀합니다: {}", subscription.getTopicUrl());
+            } else if (needsRenewal(subscription)) {
+                requestSubscription(subscription, subscription.getHubUrl(), subscription.getTopicUrl(), now);
+            }
+        }
+    }
+
+    // 수집과 같은 임대를 잡은 채 항목을 반영하고, 수집 상태는 워터마크만 저장
+    private void acceptPushedItems(RssFeed rssFeed, List<RssItemDto> items) {
+        Long rssFeedId = rssFeed.getId();
+        if (feedSyncEngine.isInFlight(rssFeedId) || !feedSyncCluster.tryLease(rssFeedId)) {
+            metrics.recordWebSubNotification("deferred");
+            throw new GlobalException(ErrorCode.WEBSUB_FEED_SYNCING, rssFeed.getUrl());
+        }
+
+        try {
+            // 임대를 잡기 전에 조회한 수집 상태는 직전 수집으로 바뀌었을 수 있으므로 다시 조회
+            RssFeed current = rssFeedRepository.findById(rssFeedId).orElse(null);
+            if (current == null) {
+                return;
+            }
+            rssEntryIntakeService.accept(current, items);
+            FeedFetchState fetchState = current.getFetchState();
+            rssFeedRepository.updateEntryWatermark(rssFeedId, fetchState.getNewestEntryAt(),
+                    fetchState.getRecentEntryKeys(), fetchState.getBaselinePending());
+        } finally {
+            feedSyncCluster.release(rssFeedId);
+        }
+    }
+
+    private WebSubSubscription findSubscription(String callbackToken) {
+        return webSubSubscriptionRepository.findWithRssFeedByCallbackToken(callbackToken)
+                .orElseThrow(() -> new GlobalException(ErrorCode.WEBSUB_SUBSCRIPTION_NOT_FOUND));
+    }
+
+    // 허브가 제시한 임대 기간 (요청한 기간을 넘거나 값이 없으면 요청한 기간)
+    private Duration grantedLease(Long leaseSeconds) {
+        Duration requested = properties.leaseDuration();
+        if (leaseSeconds == null || leaseSeconds <= 0 || leaseSeconds > requested.toSeconds()) {
+            return requested;
+        }
+        return Duration.ofSeconds(leaseSeconds);
+    }
+
+    private void returnToPolling(WebSubSubscription subscription, LocalDateTime now) {
+        subscription.expire();
+        feedPollScheduler.schedule(subscription.getRssFeed().getId(), now);
+    }
+
+    private boolean needsRequest(WebSubSubscription subscription, String hubUrl, String topicUrl,
+                                 LocalDateTime now) {
+        // 허브나 주소가 바뀌면 즉시 다시 구독
+        if (!subscription.getHubUrl().equals(hubUrl) || !subscription.getTopicUrl().equals(topicUrl)) {
+            return true;
+        }
+        // 확인 중이거나 구독 중이면 갱신 작업에 맡기고, 확인되지 않은 요청은 일정 시간 후 재시도
+        if (subscription.getStatus() == WebSubStatus.ACTIVE) {
+            return false;
+        }
+        return subscription.getRequestedAt() == null
+                || subscription.getRequestedAt().isBefore(now.minus(properties.renewBefore()));
+    }
+
+    // 갱신 구간에 들어온 뒤 아직 갱신 요청을 보내지 않은 경우
+    private boolean needsRenewal(WebSubSubscription subscription) {
+        LocalDateTime renewFrom = subscription.getLeaseExpiresAt().minus(properties.renewBefore());
+        return subscription.getRequestedAt() == null || subscription.getRequestedAt().isBefore(renewFrom);
+    }
+
+    private void requestSubscription(WebSubSubscription subscription, String hubUrl, String topicUrl,
+                                     LocalDateTime now) {
+        subscription.request(hubUrl, topicUrl, now);
+        webSubSubscriptionRepository.save(subscription);
+
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("hub.mode", "subscribe");
+        form.add("hub.topic", topicUrl);
+        form.add("hub.callback", properties.callbackBaseUrl() + CALLBACK_PATH + subscription.getCallbackToken());
+        form.add("hub.secret", subscription.getSecret());
+        form.add("hub.lease_seconds", String.valueOf(properties.leaseDuration().toSeconds()));
+
+        try {
+            restTemplate.postForEntity(hubUrl, form, Void.class);
+            log.info("WebSub 구독 요청: {} (허브: {})", topicUrl, hubUrl);
+        } catch (RestClientException e) {
+            log.warn("WebSub 구독 요청 실패: {} - {}", hubUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * X-Hub-Signature 헤더 검증 (형식: {@code sha256=<hex>})
+     */
+    private boolean isValidSignature(String secret, String signature, byte[] body) {
+        if (!StringUtils.hasText(signature) || !signature.contains("=")) {
+            return false;
+        }
+
+        String method = signature.substring(0, signature.indexOf('=')).trim().toLowerCase(Locale.ROOT);
+        String algorithm = switch (method) {
+            case "sha1" -> "HmacSHA1";
+            case "sha256" -> "HmacSHA256";
+            case "sha384" -> "HmacSHA384";
+            case "sha512" -> "HmacSHA512";
+            default -> null;
+        };
+        if (algorithm == null) {
+            return false;
+        }
+
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), algorithm));
+            byte[] expected = mac.doFinal(body);
+            byte[] actual = HexFormat.of().parseHex(signature.substring(signature.indexOf('=') + 1).trim());
+            return MessageDigest.isEqual(expected, actual);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String newSecret() {
+        byte[] secret = new byte[32];
+        SECURE_RANDOM.nextBytes(secret);
+        return HexFormat.of().formatHex(secret);
+    }
+
+    private String newCallbackToken() {
+        byte[] token = new byte[24];
+        SECURE_RANDOM.nextBytes(token);
+        return HexFormat.of().formatHex(token);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.feedping.sync;
+
+import com.feedping.domain.FeedFetchState;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연속으로 실패하는 피드의 재시도 간격 계산
+ * 실패할 때마다 간격을 지수적으로 늘리고, 일정 횟수 이상 연속 실패하면 차단하여 드물게 상태만 확인
+ */
+@Component
+public class FeedBackoffPolicy {
+
+    private final FeedSyncProperties.Backoff backoff;
+
+    public FeedBackoffPolicy(FeedSyncProperties properties) {
+        this.backoff = properties.backoff();
+    }
+
+    /**
+     * 실패를 기록한 수집 상태로 다음 재시도까지의 간격 계산
+     */
+    public Duration retryDelay(FeedFetchState fetchState) {
+        if (isCircuitOpen(fetchState)) {
+            return backoff.probeInterval();
+        }
+
+        int exponent = Math.max(0, fetchState.getConsecutiveFailures() - 1);
+        double delayMillis = backoff.initialDelay().toMillis() * Math.pow(backoff.multiplier(), exponent);
+        long maxMillis = backoff.maxDelay().toMillis();
+        return Duration.ofMillis(delayMillis >= maxMillis ? maxMillis : (long) delayMillis);
+    }
+
+    /**
+     * 실패한 피드의 다음 시도까지의 간격
+     * 재시도 간격이 평소 폴링 간격보다 짧으면 평소 간격을 사용 (드물게 갱신되는 피드를 실패 후 오히려 더 자주 수집하지 않도록)
+     */
+    public Duration nextAttemptDelay(FeedFetchState fetchState, Duration pollInterval) {
+        Duration retryDelay = retryDelay(fetchState);
+        return retryDelay.compareTo(pollInterval) >= 0 ? retryDelay : pollInterval;
+    }
+
+    public boolean isCircuitOpen(FeedFetchState fetchState) {
+        return fetchState.getConsecutiveFailures() >= backoff.circuitOpenThreshold();
+    }
+
+    // 이번 실패로 차단 기준에 처음 도달했는지 여부
+    public boolean justOpened(FeedFetchState fetchState) {
+        return fetchState.getConsecutiveFailures() == backoff.circuitOpenThreshold();
+    }
+
+}
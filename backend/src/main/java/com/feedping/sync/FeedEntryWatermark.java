@@ -0,0 +1,77 @@
+package com.feedping.sync;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.dto.RssItemDto;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드별 항목 워터마크
+ * 최근 처리한 항목 링크의 해시와 가장 최근 발행 시각을 피드 수집 상태에 보관하여,
+ * 이미 처리한 항목은 저장소 조회 없이 걸러냄 (평소에는 새 항목이 없거나 한두 개뿐이므로)
+ */
+public final class FeedEntryWatermark {
+
+    // 보관할 최근 항목 수 (한 번에 파싱하는 최대 항목 수의 두 배, 항목 순서가 바뀌는 피드 대비)
+    static final int MAX_RECENT_ENTRIES = 40;
+
+    private FeedEntryWatermark() {
+    }
+
+    /**
+     * 워터마크 기준으로 아직 처리하지 않은 항목만 반환
+     * 최근 처리한 링크이거나, 발행 시각이 워터마크보다 이전인 항목은 제외
+     */
+    public static List<RssItemDto> unseen(FeedFetchState fetchState, List<RssItemDto> entries) {
+        Set<Long> recentKeys = parseKeys(fetchState.getRecentEntryKeys());
+        LocalDateTime newestEntryAt = fetchState.getNewestEntryAt();
+
+        return entries.stream()
+                .filter(entry -> !recentKeys.contains(FeedHashing.hash(entry.getLink())))
+                .filter(entry -> newestEntryAt == null || entry.getPublishedAt() == null
+                        || !entry.getPublishedAt().isBefore(newestEntryAt))
+                .toList();
+    }
+
+    /**
+     * 이번에 파싱한 항목으로 워터마크 전진
+     * 미래 발행 시각은 무시 (잘못된 날짜 하나로 이후 항목이 모두 걸러지지 않도록)
+     */
+    public static void advance(FeedFetchState fetchState, List<RssItemDto> entries, LocalDateTime now) {
+        Set<Long> keys = new LinkedHashSet<>();
+        LocalDateTime newestEntryAt = fetchState.getNewestEntryAt();
+        for (RssItemDto entry : entries) {
+            keys.add(FeedHashing.hash(entry.getLink()));
+            LocalDateTime publishedAt = entry.getPublishedAt();
+            if (publishedAt != null && !publishedAt.isAfter(now)
+                    && (newestEntryAt == null || publishedAt.isAfter(newestEntryAt))) {
+                newestEntryAt = publishedAt;
+            }
+        }
+        keys.addAll(parseKeys(fetchState.getRecentEntryKeys()));
+
+        String recentEntryKeys = keys.stream()
+                .limit(MAX_RECENT_ENTRIES)
+                .map(Long::toHexString)
+                .collect(Collectors.joining(","));
+        fetchState.updateEntryWatermark(newestEntryAt, recentEntryKeys);
+    }
+
+    // 쉼표로 구분된 16진수 해시 목록 파싱 (최신순 유지)
+    private static Set<Long> parseKeys(String recentEntryKeys) {
+        if (!StringUtils.hasText(recentEntryKeys)) {
+            return new HashSet<>();
+        }
+        Set<Long> keys = new LinkedHashSet<>();
+        for (String key : recentEntryKeys.split(",")) {
+            keys.add(Long.parseUnsignedLong(key, 16));
+        }
+        return keys;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.feedping.sync;
+
+/**
+ * 피드 ID 기반 분산과 항목 식별에 쓰는 해시
+ * 연속된 ID도 고르게 흩어지도록 SplitMix64 최종 혼합 함수 사용
+ */
+final class FeedHashing {
+
+    private FeedHashing() {
+    }
+
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 문자열의 64비트 해시 (FNV-1a 후 혼합)
+    static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.feedping.sync;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.domain.RssFeed;
+import com.feedping.notification.PriorityNotificationQueue;
+import com.feedping.notification.PriorityNotificationQueue.Priority;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동기화 사이클 안의 피드 수집 순서 결정
+ * 구독자 수와 새 글이 있을 가능성으로 피드의 영향도를 계산하여, 영향이 큰 피드부터 수집
+ * 구독자가 많은 피드(알림 우선순위 HIGH)는 영향도와 관계없이 항상 먼저 수집하며 미루지 않음
+ */
+@Component
+public class FeedImpactRanker {
+
+    private final PriorityNotificationQueue notificationQueue;
+    private final FeedSyncProperties.Polling polling;
+
+    public FeedImpactRanker(PriorityNotificationQueue notificationQueue, FeedSyncProperties properties) {
+        this.notificationQueue = notificationQueue;
+        this.polling = properties.polling();
+    }
+
+    /**
+     * 영향이 큰 순서로 정렬한 뒤, 사이클에서 처리할 수 있는 수만큼 선택
+     * 나머지(영향이 작은 피드)는 이번 사이클에서 미룸
+     *
+     * @param feeds    폴링 시각이 된 피드 목록
+     * @param capacity 이번 사이클에서 새로 시작할 수 있는 피드 수
+     */
+    public Selection select(List<RssFeed> feeds, int capacity) {
+        List<RankedFeed> ranked = feeds.stream()
+                .map(feed -> new RankedFeed(feed, isHighFanout(feed), impact(feed)))
+                .sorted(Comparator.comparing(RankedFeed::highFanout).reversed()
+                        .thenComparing(Comparator.comparingDouble(RankedFeed::impact).reversed()))
+                .toList();
+
+        List<RssFeed> admitted = new ArrayList<>();
+        List<RssFeed> deferred = new ArrayList<>();
+        for (RankedFeed rankedFeed : ranked) {
+            if (rankedFeed.highFanout() || admitted.size() < capacity) {
+                admitted.add(rankedFeed.feed());
+            } else {
+                deferred.add(rankedFeed.feed());
+            }
+        }
+        return new Selection(admitted, deferred);
+    }
+
+    /**
+     * 피드 영향도 = 구독자 수 x 새 글이 있을 가능성
+     * 새 글 가능성은 학습된 폴링 간격이 짧을수록 높고, 연속으로 실패 중인 피드는 낮게 봄
+     */
+    double impact(RssFeed feed) {
+        int subscribers = Math.max(1, notificationQueue.getSubscriberCount(feed.getId()));
+        return subscribers * updateLikelihood(feed.getFetchState());
+    }
+
+    private boolean isHighFanout(RssFeed feed) {
+        return notificationQueue.calculatePriority(feed.getId()) == Priority.HIGH;
+    }
+
+    private double updateLikelihood(FeedFetchState fetchState) {
+        Duration pollInterval = fetchState.getPollInterval();
+        double likelihood = pollInterval == null || pollInterval.isZero()
+                ? 1.0
+                : Math.min(1.0, (double) polling.minInterval().toSeconds() / pollInterval.toSeconds());
+        return likelihood / (1 + fetchState.getConsecutiveFailures());
+    }
+
+    /**
+     * 이번 사이클에서 수집할 피드(영향이 큰 순)와 미룬 피드
+     */
+    public record Selection(List<RssFeed> admitted, List<RssFeed> deferred) {
+    }
+
+    private record RankedFeed(RssFeed feed, boolean highFanout, double impact) {
+    }
+
+}
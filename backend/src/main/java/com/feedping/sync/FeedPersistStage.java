@@ -0,0 +1,83 @@
+package com.feedping.sync;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동기화 파이프라인의 저장 단계
+ * DB 커넥션 풀보다 작은 고정 스레드에서 실행하며, 자리(실행 중 + 대기 가능 수)를 먼저 예약해야 작업을 넘길 수 있음
+ * 자리가 없으면 수집 단계가 수집 슬롯을 쥔 채 기다리므로 새 수집이 시작되지 않음 (backpressure)
+ */
+final class FeedPersistStage {
+
+    private final ExecutorService executor;
+    private final Semaphore slots;
+    private final AtomicInteger depth = new AtomicInteger();
+
+    FeedPersistStage(int threads, int queueCapacity) {
+        this.executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("feed-persist-", 0).daemon(true).factory());
+        this.slots = new Semaphore(threads + queueCapacity, true);
+    }
+
+    /**
+     * 저장 단계 자리 예약 (자리가 날 때까지 대기)
+     */
+    void reserve() throws InterruptedException {
+        slots.acquire();
+        depth.incrementAndGet();
+    }
+
+    /**
+     * 예약한 자리를 사용하지 않고 반환 (마감 시간을 넘겨 저장을 건너뛴 경우)
+     */
+    void cancel() {
+        depth.decrementAndGet();
+        slots.release();
+    }
+
+    /**
+     * 예약한 자리에서 작업을 실행하고 완료까지 대기
+     * 작업에서 발생한 예외는 그대로 전달
+     */
+    void run(Runnable step) {
+        Future<?> future = executor.submit(() -> {
+            try {
+                step.run();
+            } finally {
+                depth.decrementAndGet();
+                slots.release();
+            }
+        });
+
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            // 작업은 저장 스레드에서 계속 실행되며 끝나면 자리를 반환
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("저장 단계 완료 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    // 저장을 기다리거나 저장 중인 피드 수
+    int depth() {
+        return depth.get();
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.feedping.sync;
+
+import com.feedping.dto.FeedPollSchedule;
+import com.feedping.event.RssFeedRegisteredEvent;
+import com.feedping.repository.RssFeedRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 피드별 다음 폴링 시각을 관리하는 스케줄러
+ * 폴링 시각 순 우선순위 큐로 관리하여 매 주기 전체 피드를 조회하지 않음
+ */
+@Slf4j
+@Component
+public class FeedPollScheduler {
+
+    private final RssFeedRepository rssFeedRepository;
+    private final FeedSyncProperties.Polling polling;
+    private final FeedSyncProperties.Catalog catalog;
+    private final PollSpreader pollSpreader;
+
+    // 폴링 시각 순 큐 (재예약 시 이전 항목은 남겨두고 꺼낼 때 건너뜀)
+    private final PriorityQueue<ScheduledPoll> dueQueue =
+            new PriorityQueue<>(Comparator.comparing(ScheduledPoll::dueAt));
+
+    // 피드별 현재 유효한 폴링 시각
+    private final Map<Long, LocalDateTime> scheduledPolls = new HashMap<>();
+
+    public FeedPollScheduler(RssFeedRepository rssFeedRepository, FeedSyncProperties properties,
+                             PollSpreader pollSpreader) {
+        this.rssFeedRepository = rssFeedRepository;
+        this.polling = properties.polling();
+        this.catalog = properties.catalog();
+        this.pollSpreader = pollSpreader;
+    }
+
+    /**
+     * 애플리케이션 시작 시 저장된 폴링 시각으로 큐 초기화
+     * 구독자가 있는 피드만 ID 순으로 나눠 읽어 피드 수가 늘어도 한 번에 메모리에 올리지 않음
+     * 폴링 시각이 지난 피드는 한꺼번에 수집되지 않도록 분산 구간에 흩어 예약
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        forEachPollSchedule(schedule -> schedule(schedule.getRssFeedId(),
+                pollSpreader.catchUp(schedule.getRssFeedId(), schedule.getNextPollAt(), now)));
+
+        log.info("피드 폴링 스케줄 초기화 완료: {} 개의 피드", size());
+    }
+
+    /**
+     * 다른 인스턴스에서 등록된 피드를 추가하고, 삭제되었거나 구독자가 없는 피드를 제외
+     * 이미 예약된 피드의 폴링 시각은 그대로 유지
+     */
+    public void refreshSchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> activeIds = new HashSet<>();
+
+        forEachPollSchedule(schedule -> {
+            activeIds.add(schedule.getRssFeedId());
+            synchronized (this) {
+                if (!scheduledPolls.containsKey(schedule.getRssFeedId())) {
+                    schedule(schedule.getRssFeedId(),
+                            pollSpreader.catchUp(schedule.getRssFeedId(), schedule.getNextPollAt(), now));
+                }
+            }
+        });
+
+        synchronized (this) {
+            scheduledPolls.keySet().retainAll(activeIds);
+        }
+    }
+
+    /**
+     * 새로 등록된 피드는 바로 폴링하도록 예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFeedRegistered(RssFeedRegisteredEvent event) {
+        schedule(event.getRssFeedId(), LocalDateTime.now());
+    }
+
+    public synchronized void schedule(Long rssFeedId, LocalDateTime dueAt) {
+        scheduledPolls.put(rssFeedId, dueAt);
+        dueQueue.add(new ScheduledPoll(rssFeedId, dueAt));
+    }
+
+    public synchronized void unschedule(Long rssFeedId) {
+        scheduledPolls.remove(rssFeedId);
+    }
+
+    /**
+     * 폴링 시각이 된 피드 ID 목록을 꺼냄
+     * 동기화 중 결과를 예약하지 못한 피드(호스트 제한으로 건너뜀 등)를 잃지 않도록 최소 간격 뒤로 임시 예약해 둠
+     */
+    public synchronized List<Long> pollDue(LocalDateTime now) {
+        List<Long> dueFeedIds = new ArrayList<>();
+        LocalDateTime retryAt = now.plus(polling.minInterval());
+
+        while (!dueQueue.isEmpty() && !dueQueue.peek().dueAt().isAfter(now)) {
+            ScheduledPoll poll = dueQueue.poll();
+            // 재예약되어 더 이상 유효하지 않은 항목은 건너뜀
+            if (!poll.dueAt().equals(scheduledPolls.get(poll.rssFeedId()))) {
+                continue;
+            }
+            dueFeedIds.add(poll.rssFeedId());
+        }
+
+        dueFeedIds.forEach(rssFeedId -> schedule(rssFeedId, retryAt));
+        return dueFeedIds;
+    }
+
+    public synchronized int size() {
+        return scheduledPolls.size();
+    }
+
+    // 구독자가 있는 피드의 폴링 정보를 ID 순으로 나눠 읽으며 처리
+    private void forEachPollSchedule(Consumer<FeedPollSchedule> action) {
+        Pageable chunk = PageRequest.ofSize(catalog.chunkSize());
+        Long lastId = 0L;
+        List<FeedPollSchedule> schedules;
+        do {
+            schedules = rssFeedRepository.findPollSchedulesAfter(lastId, chunk);
+            schedules.forEach(action);
+            if (!schedules.isEmpty()) {
+                lastId = schedules.get(schedules.size() - 1).getRssFeedId();
+            }
+        } while (schedules.size() == catalog.chunkSize());
+    }
+
+    private record ScheduledPoll(Long rssFeedId, LocalDateTime dueAt) {
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.feedping.sync;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 인스턴스 간 피드 동기화 분담
+ * 살아 있는 인스턴스 목록을 Redis에 유지하고, 피드마다 rendezvous 해시로 담당 인스턴스를 정함
+ * 인스턴스가 들어오거나 빠지면 그 인스턴스 몫의 피드만 옮겨가며, 옮겨가는 동안의 중복 수집은 피드별 임대로 막음
+ * 생존 신호는 동기화 사이클이 오래 걸려도 끊기지 않도록 예약 작업 스레드가 아닌 전용 스레드에서 갱신
+ * 비활성화 상태에서는 모든 피드를 이 인스턴스가 담당
+ */
+@Slf4j
+@Component
+public class FeedSyncCluster {
+
+    private static final String MEMBERS_KEY = "feed_sync:members";
+    private static final String LEASE_PREFIX = "feed_sync:lease:";
+    private static final String JOB_LOCK_PREFIX = "feed_sync:job:";
+
+    // 임대를 가진 인스턴스만 해제 (만료 후 다른 인스턴스가 얻은 임대를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FeedPollScheduler feedPollScheduler;
+    private final FeedSyncProperties.Cluster cluster;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("feed-sync-heartbeat").daemon(true).factory());
+
+    // 마지막으로 확인한 인스턴스 목록 (Redis 장애 시에도 이 목록으로 계속 분담)
+    private volatile List<String> members;
+
+    public FeedSyncCluster(RedisTemplate<String, String> redisTemplate, FeedPollScheduler feedPollScheduler,
+                           FeedSyncProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.feedPollScheduler = feedPollScheduler;
+        this.cluster = properties.cluster();
+        this.members = List.of(instanceId);
+    }
+
+    /**
+     * 전용 스레드에서 생존 신호 갱신 시작
+     * 예약 작업 스레드를 쓰면 동기화 사이클(최대 cycleTimeout)이 끝날 때까지 갱신이 밀려 memberTtl이 지나 버릴 수 있음
+     */
+    @PostConstruct
+    public void start() {
+        if (!cluster.enabled()) {
+            return;
+        }
+        long intervalMillis = cluster.heartbeatInterval().toMillis();
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 생존 신호 갱신 및 인스턴스 목록 확인
+     * 목록이 바뀌면 다른 인스턴스가 등록한 피드를 스케줄에 반영
+     * 예외가 나가면 이후 갱신이 멈추므로 모든 예외를 기록만 하고 넘어감
+     */
+    void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            ZSetOperations<String, String> memberSet = redisTemplate.opsForZSet();
+            memberSet.add(MEMBERS_KEY, instanceId, now + cluster.memberTtl().toMillis());
+            memberSet.removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> alive = memberSet.range(MEMBERS_KEY, 0, -1);
+
+            List<String> view = alive == null || alive.isEmpty()
+                    ? List.of(instanceId)
+                    : alive.stream().sorted().toList();
+            if (!view.equals(members)) {
+                log.info("피드 동기화 인스턴스 변경: {} 개 -> {} 개", members.size(), view.size());
+                members = view;
+                feedPollScheduler.refreshSchedules();
+            }
+        } catch (DataAccessException e) {
+            log.warn("피드 동기화 인스턴스 목록 갱신 실패, 마지막 목록으로 계속 분담합니다: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("피드 동기화 생존 신호 갱신 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 등록된 피드 반영 (5분 간격)
+     */
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void refreshSchedules() {
+        if (cluster.enabled()) {
+            feedPollScheduler.refreshSchedules();
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        heartbeatExecutor.shutdownNow();
+        if (!cluster.enabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+        } catch (DataAccessException e) {
+            log.debug("인스턴스 목록에서 제거 실패 (생존 신호 만료 후 제외됨): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폴링 시각이 된 피드 중 이 인스턴스가 담당하는 피드만 골라 임대 획득
+     * 담당하지 않거나 다른 인스턴스가 동기화 중인 피드는 잠시 뒤 담당 여부를 다시 확인하도록 예약
+     *
+     * @return 이 인스턴스가 동기화할 피드 ID 목록
+     */
+    public List<Long> claim(List<Long> dueFeedIds, LocalDateTime now) {
+        if (!cluster.enabled()) {
+            return dueFeedIds;
+        }
+
+        List<Long> claimed = new ArrayList<>();
+        LocalDateTime recheckAt = now.plus(cluster.standbyRecheck());
+        List<String> view = members;
+        for (Long rssFeedId : dueFeedIds) {
+            if (instanceId.equals(ownerOf(view, rssFeedId)) && acquireLease(rssFeedId)) {
+                claimed.add(rssFeedId);
+            } else {
+                feedPollScheduler.schedule(rssFeedId, recheckAt);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 피드 동기화가 끝나면 임대 해제
+     */
+    public void release(Long rssFeedId) {
+        if (!cluster.enabled()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + rssFeedId), instanceId);
+        } catch (DataAccessException e) {
+            log.debug("피드 임대 해제 실패 (만료 후 해제됨): {} - {}", rssFeedId, e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 / 병합 작업이 피드를 변경하는 동안 다른 인스턴스가 동기화하지 못하도록 임대 획득
+     * 동기화 중인 인스턴스가 있거나 Redis 장애로 확인할 수 없으면 false (작업은 다음 실행에서 다시 시도)
+     * 작업이 끝나면 release로 해제
+     */
+    public boolean tryLease(Long rssFeedId) {
+        if (!cluster.enabled()) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + rssFeedId, instanceId, cluster.leaseDuration()));
+        } catch (DataAccessException e) {
+            log.debug("피드 임대 획득 실패, 이번 작업에서 제외합니다: {} - {}", rssFeedId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 클러스터에서 한 인스턴스만 실행해야 하는 작업의 잠금 획득
+     * 다른 인스턴스가 실행 중이거나 Redis 장애로 확인할 수 없으면 false
+     *
+     * @param ttl 인스턴스가 작업 중 종료되어도 잠금이 풀리도록 하는 최대 보유 시간
+     */
+    public boolean tryLockJob(String jobName, Duration ttl) {
+        if (!cluster.enabled()) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(JOB_LOCK_PREFIX + jobName, instanceId, ttl));
+        } catch (DataAccessException e) {
+            log.warn("작업 잠금 획득 실패, 이번 실행을 건너뜁니다: {} - {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    public void unlockJob(String jobName) {
+        if (!cluster.enabled()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(JOB_LOCK_PREFIX + jobName), instanceId);
+        } catch (DataAccessException e) {
+            log.debug("작업 잠금 해제 실패 (만료 후 해제됨): {} - {}", jobName, e.getMessage());
+        }
+    }
+
+    /**
+     * rendezvous(HRW) 해시로 담당 인스턴스 선택
+     * 인스턴스가 추가 / 제거되어도 해당 인스턴스 몫의 피드만 담당이 바뀜
+     */
+    static String ownerOf(List<String> members, long rssFeedId) {
+        String owner = null;
+        long bestScore = Long.MIN_VALUE;
+        for (String member : members) {
+            long score = FeedHashing.mix(member.hashCode() * 0x9E3779B97F4A7C15L ^ rssFeedId);
+            if (owner == null || score > bestScore) {
+                owner = member;
+                bestScore = score;
+            }
+        }
+        return owner;
+    }
+
+    private boolean acquireLease(Long rssFeedId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + rssFeedId, instanceId, cluster.leaseDuration()));
+        } catch (DataAccessException e) {
+            // Redis 장애 시 해시 분담만으로 진행 (인스턴스 목록이 바뀌는 중이 아니면 중복되지 않음)
+            log.debug("피드 임대 획득 실패, 담당 인스턴스로서 진행합니다: {} - {}", rssFeedId, e.getMessage());
+            return true;
+        }
+    }
+
+}
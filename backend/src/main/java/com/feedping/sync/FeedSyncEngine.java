@@ -0,0 +1,303 @@
+package com.feedping.sync;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.sync.FeedSyncScope.FeedTask;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 동기화 실행 엔진
+ * 수집 -> 저장 두 단계 파이프라인으로 실행
+ * - 수집 단계: 피드마다 가상 스레드 하나를 사용하고, 전역 슬롯으로 동시 수집 수를 제한 (네트워크 요청과 스트리밍 파싱)
+ * - 저장 단계: DB 커넥션 풀에 맞춘 작은 고정 스레드에서 항목 저장과 수집 상태 갱신
+ * 저장 단계에 자리가 없으면 수집 슬롯을 반환하지 않고 기다리므로, 저장이 밀리면 새 수집도 늦춰짐
+ * 피드마다 수집 슬롯을 얻은 시점부터 마감 시간을 두고, 사이클 제한 시간이 지나면 남은 피드도 함께 중단
+ * 마감이 지난 피드는 HTTP 요청을 중단하고 수집 결과 대신 실패를 기록하며, 사이클은 시작한 피드가 모두 끝난 뒤 반환
+ * 전역 슬롯은 목록 앞쪽 피드(영향이 큰 피드)부터 배정
+ */
+@Slf4j
+@Component
+public class FeedSyncEngine {
+
+    private final FeedSyncProperties properties;
+    private final HostFetchScheduler hostFetchScheduler;
+    private final NotificationMetrics metrics;
+    private final PriorityPermits permits;
+    private final FeedPersistStage persistStage;
+
+    // 수집 슬롯을 기다리거나 수집 중인 피드 수
+    private final AtomicInteger fetchDepth = new AtomicInteger();
+
+    // 피드 하나의 평균 처리 시간 (지수 이동 평균, 0이면 아직 측정 전)
+    private final AtomicLong averageFeedNanos = new AtomicLong();
+
+    // 처리 중인 피드 ID (피드 정리 / 병합 작업이 동기화 중인 피드를 건드리지 않도록 공개)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public FeedSyncEngine(FeedSyncProperties properties, HostFetchScheduler hostFetchScheduler,
+                          NotificationMetrics metrics) {
+        this.properties = properties;
+        this.hostFetchScheduler = hostFetchScheduler;
+        this.metrics = metrics;
+        this.permits = new PriorityPermits(properties.concurrency());
+        this.persistStage = new FeedPersistStage(properties.pipeline().persistThreads(),
+                properties.pipeline().persistQueueCapacity());
+
+        metrics.registerFeedPipelineDepth("fetch", fetchDepth::get);
+        metrics.registerFeedPipelineDepth("persist", persistStage::depth);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistStage.shutdown();
+    }
+
+    /**
+     * 주어진 피드 목록을 동시성 제한 안에서 병렬로 동기화하고, 완료될 때까지 대기
+     * 마감 시간을 넘긴 피드는 중단하여 시간 초과로 집계
+     *
+     * @param feeds  동기화할 피드 목록 (앞쪽 피드가 전역 슬롯을 먼저 배정받음)
+     * @param stages 수집 / 저장 단계 작업
+     * @return 사이클 처리 결과
+     */
+    public FeedSyncReport run(List<RssFeed> feeds, FeedSyncStages stages) {
+        long startNanos = System.nanoTime();
+        CycleCounts counts = new CycleCounts();
+
+        try (FeedSyncScope scope = new FeedSyncScope(properties.cycleTimeout())) {
+            for (int i = 0; i < feeds.size(); i++) {
+                RssFeed feed = feeds.get(i);
+                long rank = i;
+                inFlight.add(feed.getId());
+                scope.fork(task -> {
+                    try {
+                        runFeed(task, feed, rank, stages, counts);
+                    } finally {
+                        inFlight.remove(feed.getId());
+                    }
+                });
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        metrics.recordFeedSyncCycle(elapsed);
+        return new FeedSyncReport(feeds.size(), counts.succeeded.get(), counts.failed.get(),
+                counts.timedOut.get(), elapsed);
+    }
+
+    // 이 인스턴스에서 동기화 중인 피드인지 여부
+    public boolean isInFlight(Long rssFeedId) {
+        return inFlight.contains(rssFeedId);
+    }
+
+    /**
+     * 최근 피드 처리 시간 기준으로 한 사이클 제한 시간 안에 새로 시작할 수 있는 피드 수
+     * 아직 측정 전이면 제한 없음
+     */
+    public int cycleCapacity() {
+        long average = averageFeedNanos.get();
+        if (average <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        long capacity = properties.concurrency() * (properties.cycleTimeout().toNanos() / average);
+        return (int) Math.min(Integer.MAX_VALUE, capacity);
+    }
+
+    private void runFeed(FeedTask task, RssFeed feed, long rank, FeedSyncStages stages, CycleCounts counts) {
+        FeedRun run = new FeedRun(task, feed, rank, stages);
+        boolean fetched;
+        try {
+            // 호스트 차례를 먼저 기다린 뒤 전역 슬롯을 사용 (대기 중인 피드가 다른 호스트의 슬롯을 점유하지 않도록)
+            hostFetchScheduler.execute(feed.getUrl(), run::fetch);
+            fetched = true;
+        } catch (RuntimeException e) {
+            // 상세 오류는 동기화 작업에서 기록하므로 여기서는 집계만 수행
+            fetched = false;
+        }
+
+        // 마감이 지난 피드는 수집 결과를 저장하지 않음 (저장을 시작한 뒤에는 중단하지 않음)
+        if (!task.enterPersist()) {
+            timeOut(run);
+            counts.timedOut.incrementAndGet();
+            return;
+        }
+        if (run.persistStep == null) {
+            counts.failed.incrementAndGet();
+            stages.skipped(feed);
+            return;
+        }
+
+        if (persist(run) && fetched) {
+            counts.succeeded.incrementAndGet();
+        } else {
+            counts.failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 마감 시간을 넘긴 피드 정리
+     * 수집 중 마감된 피드는 수집 실패와 같이 기록하여 재시도 간격(backoff)을 적용
+     * (응답이 계속 느린 피드가 매 사이클 수집 슬롯을 점유하지 않도록)
+     * 호스트 차례 / 수집 슬롯 / 저장 자리를 기다리다 마감된 피드는 피드가 아닌 과부하 문제이므로 실패로 세지 않고 정리만 수행
+     */
+    private void timeOut(FeedRun run) {
+        // 취소 인터럽트가 정리 작업(실패 기록, 임대 해제 등)을 방해하지 않도록 해제
+        Thread.interrupted();
+        if (run.timer != null) {
+            metrics.stopFeedProcessingTimer(run.timer);
+        }
+        metrics.recordFeedSyncTimeout(run.stage);
+        log.warn("피드 동기화 마감 시간 초과로 중단했습니다 (단계: {}, 경과: {}ms): {}",
+                run.stage, Duration.ofNanos(System.nanoTime() - run.createdNanos).toMillis(), run.feed.getUrl());
+
+        if (!"fetch".equals(run.stage)) {
+            if (run.persistStep != null) {
+                persistStage.cancel();
+            }
+            run.stages.skipped(run.feed);
+            return;
+        }
+
+        // 실패 기록은 저장 단계에서 실행 (수집 단계에서 마감되었으므로 예약한 저장 자리는 없음)
+        Runnable failureStep = run.stages.fetchFailed(run.feed, new GlobalException(ErrorCode.RSS_FEED_SYNC_TIMEOUT,
+                "단계: " + run.stage));
+        try {
+            persistStage.reserve();
+            persistStage.run(failureStep);
+        } catch (InterruptedException e) {
+            // 사이클 종료 등으로 저장 자리를 기다리지 못하면 실패 기록 없이 정리만 수행
+            Thread.currentThread().interrupt();
+            run.stages.skipped(run.feed);
+        } catch (RuntimeException e) {
+            log.warn("피드 동기화 시간 초과 기록 실패: {} - {}", run.feed.getUrl(), e.getMessage());
+        }
+    }
+
+    // 저장 단계 실행 후 성공 여부 반환
+    private boolean persist(FeedRun run) {
+        long startNanos = System.nanoTime();
+        try {
+            persistStage.run(run.persistStep);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        } finally {
+            metrics.recordFeedPipelineLatency("persist", System.nanoTime() - startNanos);
+            if (run.timer != null) {
+                metrics.stopFeedProcessingTimer(run.timer);
+            }
+        }
+    }
+
+    // 평균 처리 시간 갱신 (최근 값 20% 반영)
+    private void recordFeedDuration(long elapsedNanos) {
+        averageFeedNanos.accumulateAndGet(elapsedNanos,
+                (average, sample) -> average <= 0 ? sample : (average * 4 + sample) / 5);
+    }
+
+    // 사이클 처리 결과 집계
+    private static final class CycleCounts {
+
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger timedOut = new AtomicInteger();
+    }
+
+    /**
+     * 피드 하나의 파이프라인 진행 상태
+     */
+    private final class FeedRun {
+
+        private final FeedTask task;
+        private final RssFeed feed;
+        private final long rank;
+        private final FeedSyncStages stages;
+        private final long createdNanos = System.nanoTime();
+
+        // 저장 단계에서 실행할 작업 (수집 실패 시 실패 기록 작업, 수집을 시작하지 못했으면 null)
+        private Runnable persistStep;
+        private Timer.Sample timer;
+
+        // 현재 진행 중인 단계 (queue: 호스트 차례 / 수집 슬롯 대기, fetch: 수집, persist: 저장 자리 대기)
+        private volatile String stage = "queue";
+
+        private FeedRun(FeedTask task, RssFeed feed, long rank, FeedSyncStages stages) {
+            this.task = task;
+            this.feed = feed;
+            this.rank = rank;
+            this.stages = stages;
+        }
+
+        /**
+         * 수집 단계: 전역 슬롯을 얻어 수집한 뒤, 저장 단계 자리를 예약할 때까지 슬롯 유지
+         * 수집 실패 예외는 HostFetchScheduler가 요청 제한을 처리하도록 그대로 전달
+         */
+        private void fetch() {
+            long enteredNanos = System.nanoTime();
+            fetchDepth.incrementAndGet();
+            try {
+                permits.acquire(rank);
+            } catch (InterruptedException e) {
+                fetchDepth.decrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("동기화 슬롯 대기 중 인터럽트 발생", e);
+            }
+
+            // 수집 슬롯을 얻은 시점부터 피드 마감 시간 적용 (수집 / 파싱 / 저장 자리 대기)
+            long startNanos = System.nanoTime();
+            task.cancelAt(startNanos + properties.pipeline().feedTimeout().toNanos());
+            stage = "fetch";
+            timer = metrics.startTimer();
+            try {
+                RuntimeException failure = null;
+                Runnable step;
+                try {
+                    step = stages.fetch(feed);
+                } catch (RuntimeException e) {
+                    step = stages.fetchFailed(feed, e);
+                    failure = e;
+                }
+                metrics.recordFeedPipelineLatency("fetch", System.nanoTime() - enteredNanos);
+
+                // 마감이 지났으면 저장 단계로 넘기지 않음
+                if (task.isCancelled()) {
+                    throw new CancellationException("피드 동기화 마감 시간 초과");
+                }
+
+                // 저장 단계가 밀려 있으면 슬롯을 쥔 채 대기 (backpressure)
+                stage = "persist";
+                reservePersistSlot();
+                persistStep = step;
+                if (failure != null) {
+                    throw failure;
+                }
+            } finally {
+                fetchDepth.decrementAndGet();
+                permits.release();
+                recordFeedDuration(System.nanoTime() - startNanos);
+            }
+        }
+
+        private void reservePersistSlot() {
+            try {
+                persistStage.reserve();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("저장 단계 자리 대기 중 인터럽트 발생", e);
+            }
+        }
+    }
+
+}
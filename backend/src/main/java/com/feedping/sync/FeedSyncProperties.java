@@ -0,0 +1,131 @@
+package com.feedping.sync;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "feed.sync")
+public record FeedSyncProperties(
+        @Min(1) int concurrency,
+        Duration cycleTimeout,
+        Politeness politeness,
+        Polling polling,
+        Backoff backoff,
+        Cluster cluster,
+        Catalog catalog,
+        Pipeline pipeline
+) {
+    public FeedSyncProperties {
+        concurrency = concurrency > 0 ? concurrency : 20;
+        cycleTimeout = cycleTimeout != null ? cycleTimeout : Duration.ofMinutes(3);
+        politeness = politeness != null ? politeness : new Politeness(0, null, null, null, null);
+        polling = polling != null ? polling : new Polling(null, null, null, null);
+        backoff = backoff != null ? backoff : new Backoff(null, 0, null, 0, null);
+        cluster = cluster != null ? cluster : new Cluster(false, null, null, null, null);
+        catalog = catalog != null ? catalog : new Catalog(null, 0);
+        pipeline = pipeline != null ? pipeline : new Pipeline(0, 0, null);
+    }
+
+    /**
+     * 호스트별 요청 예절 설정
+     */
+    public record Politeness(
+            int perHostConcurrency,       // 호스트별 동시 요청 수
+            Duration minRequestGap,       // 같은 호스트에 대한 요청 사이 최소 간격
+            Duration maxWait,             // 호스트 차례를 기다리는 최대 시간 (초과 시 이번 주기 건너뜀)
+            Duration defaultRetryAfter,   // Retry-After 없이 요청 제한된 경우 대기 시간
+            Duration maxRetryAfter        // 서버가 보낸 Retry-After 상한
+    ) {
+        public Politeness {
+            perHostConcurrency = perHostConcurrency > 0 ? perHostConcurrency : 2;
+            minRequestGap = minRequestGap != null ? minRequestGap : Duration.ofSeconds(1);
+            maxWait = maxWait != null ? maxWait : Duration.ofMinutes(1);
+            defaultRetryAfter = defaultRetryAfter != null ? defaultRetryAfter : Duration.ofMinutes(5);
+            maxRetryAfter = maxRetryAfter != null ? maxRetryAfter : Duration.ofHours(6);
+        }
+    }
+
+    /**
+     * 피드별 폴링 간격 범위와 폴링 시각 분산
+     */
+    public record Polling(
+            Duration minInterval,
+            Duration maxInterval,
+            Duration spreadWindow,        // 피드별 고정 오프셋을 배치하는 구간 (피드 폴링 간격보다 길면 간격으로 줄임)
+            Duration jitter               // 같은 오프셋의 피드가 겹치지 않도록 더하는 무작위 지연 상한
+    ) {
+        public Polling {
+            minInterval = minInterval != null ? minInterval : Duration.ofMinutes(5);
+            maxInterval = maxInterval != null ? maxInterval : Duration.ofHours(6);
+            spreadWindow = spreadWindow != null ? spreadWindow : Duration.ofMinutes(5);
+            jitter = jitter != null ? jitter : Duration.ofSeconds(10);
+        }
+    }
+
+    /**
+     * 연속으로 실패하는 피드의 재시도 간격
+     */
+    public record Backoff(
+            Duration initialDelay,        // 첫 실패 후 재시도 간격
+            double multiplier,            // 실패할 때마다 간격을 늘리는 배율
+            Duration maxDelay,            // 재시도 간격 상한
+            int circuitOpenThreshold,     // 이 횟수만큼 연속 실패하면 차단 (드물게 상태만 확인)
+            Duration probeInterval        // 차단된 피드의 상태 확인 간격
+    ) {
+        public Backoff {
+            initialDelay = initialDelay != null ? initialDelay : Duration.ofMinutes(5);
+            multiplier = multiplier >= 1 ? multiplier : 2.0;
+            maxDelay = maxDelay != null ? maxDelay : Duration.ofHours(6);
+            circuitOpenThreshold = circuitOpenThreshold > 0 ? circuitOpenThreshold : 10;
+            probeInterval = probeInterval != null ? probeInterval : Duration.ofHours(24);
+        }
+    }
+
+    /**
+     * 여러 인스턴스에서 실행할 때 피드 분담 설정 (Redis 사용)
+     */
+    public record Cluster(
+            boolean enabled,              // 인스턴스 간 분담 여부 (단일 인스턴스면 false)
+            Duration memberTtl,           // 이 시간 동안 생존 신호가 없으면 인스턴스가 빠진 것으로 간주
+            Duration leaseDuration,       // 피드 하나를 동기화하는 동안 다른 인스턴스의 수집을 막는 최대 시간
+            Duration standbyRecheck,      // 맡지 않은 피드의 담당 여부를 다시 확인하는 간격
+            Duration heartbeatInterval    // 생존 신호 갱신 간격 (memberTtl보다 충분히 짧게)
+    ) {
+        public Cluster {
+            memberTtl = memberTtl != null ? memberTtl : Duration.ofSeconds(30);
+            leaseDuration = leaseDuration != null ? leaseDuration : Duration.ofMinutes(5);
+            standbyRecheck = standbyRecheck != null ? standbyRecheck : Duration.ofMinutes(1);
+            heartbeatInterval = heartbeatInterval != null ? heartbeatInterval : Duration.ofSeconds(10);
+        }
+    }
+
+    /**
+     * 동기화 대상 피드 목록 관리
+     */
+    public record Catalog(
+            Duration orphanRetention,     // 구독자가 모두 떠난 피드를 삭제하기 전까지 보관하는 기간 (다시 구독하면 복귀)
+            int chunkSize                 // 피드 목록을 나눠 읽는 단위
+    ) {
+        public Catalog {
+            orphanRetention = orphanRetention != null ? orphanRetention : Duration.ofDays(7);
+            chunkSize = chunkSize > 0 ? chunkSize : 1000;
+        }
+    }
+
+    /**
+     * 수집 이후 저장 단계 설정 (수집 단계 동시성은 concurrency)
+     */
+    public record Pipeline(
+            int persistThreads,           // 항목 저장 / 수집 상태 갱신을 실행하는 스레드 수 (DB 커넥션 풀보다 작게)
+            int persistQueueCapacity,     // 저장을 기다릴 수 있는 피드 수 (가득 차면 수집 단계가 대기)
+            Duration feedTimeout          // 수집 슬롯을 얻은 뒤 저장 시작까지 피드 하나에 허용하는 시간 (넘으면 중단)
+    ) {
+        public Pipeline {
+            persistThreads = persistThreads > 0 ? persistThreads : 4;
+            persistQueueCapacity = persistQueueCapacity > 0 ? persistQueueCapacity : 40;
+            feedTimeout = feedTimeout != null ? feedTimeout : Duration.ofSeconds(60);
+        }
+    }
+}
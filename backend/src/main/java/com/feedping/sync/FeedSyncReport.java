@@ -0,0 +1,16 @@
+package com.feedping.sync;
+
+import java.time.Duration;
+
+/**
+ * 동기화 사이클 한 번의 처리 결과
+ * 피드 마감 시간이나 사이클 마감 시간을 넘겨 중단한 피드는 timedOut으로 집계
+ */
+public record FeedSyncReport(
+        int total,
+        int succeeded,
+        int failed,
+        int timedOut,
+        Duration elapsed
+) {
+}
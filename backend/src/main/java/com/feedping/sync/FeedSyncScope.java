@@ -0,0 +1,130 @@
+package com.feedping.sync;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 동기화 사이클 하나의 작업 범위
+ * 사이클이 시작한 피드 작업은 모두 이 범위의 가상 스레드에서 실행되고, close()는 모든 작업이 끝날 때까지 기다림
+ * 작업마다 마감 시각(피드 마감과 사이클 마감 중 이른 쪽)을 두고, 마감이 지나면 작업 스레드를 인터럽트하여
+ * 진행 중인 HTTP 요청과 대기를 중단시키므로 사이클이 끝난 뒤에 남는 작업이 없음
+ * (StructuredTaskScope는 Java 21에서 프리뷰 기능이므로 같은 규칙을 직접 구현)
+ */
+final class FeedSyncScope implements AutoCloseable {
+
+    // 마감 시각에 작업을 취소하는 감시용 스레드 (모든 사이클이 공유)
+    private static final ScheduledExecutorService DEADLINES = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("feed-sync-deadline").daemon().factory());
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("feed-sync-", 0).factory());
+    private final long deadlineNanos;
+
+    FeedSyncScope(Duration cycleTimeout) {
+        this.deadlineNanos = System.nanoTime() + cycleTimeout.toNanos();
+    }
+
+    /**
+     * 작업 시작 (사이클 마감 시각이 지나면 취소됨)
+     */
+    void fork(Consumer<FeedTask> body) {
+        FeedTask task = new FeedTask();
+        task.cancelAt(deadlineNanos);
+        executor.execute(() -> {
+            task.bind(Thread.currentThread());
+            try {
+                body.accept(task);
+            } finally {
+                task.finish();
+            }
+        });
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 대기
+     * 마감이 지난 작업은 취소되므로 늦어도 사이클 마감 직후(저장 중인 작업은 저장이 끝난 뒤) 반환
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * 피드 작업 하나의 취소 상태
+     * 저장 단계에 들어간 뒤에는 DB 작업을 중간에 끊지 않도록 취소하지 않음
+     */
+    static final class FeedTask {
+
+        private Thread thread;
+        private ScheduledFuture<?> deadline;
+        private long deadlineNanos;
+        private boolean cancelled;
+        private boolean persisting;
+        private boolean done;
+
+        private synchronized void bind(Thread thread) {
+            this.thread = thread;
+            if (cancelled) {
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * 마감 시각 설정 (이미 더 이른 마감 시각이 있으면 유지)
+         */
+        synchronized void cancelAt(long deadlineNanos) {
+            if (done || (deadline != null && deadlineNanos - this.deadlineNanos >= 0)) {
+                return;
+            }
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+            this.deadlineNanos = deadlineNanos;
+            this.deadline = DEADLINES.schedule(this::cancel,
+                    Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 마감 시각 도달: 작업 스레드를 인터럽트하여 HTTP 요청과 대기를 중단
+         */
+        synchronized void cancel() {
+            if (done || persisting || cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * 저장 단계 진입
+         *
+         * @return 이미 취소되었으면 false (저장 단계를 건너뜀)
+         */
+        synchronized boolean enterPersist() {
+            if (cancelled) {
+                return false;
+            }
+            persisting = true;
+            return true;
+        }
+
+        private synchronized void finish() {
+            done = true;
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+        }
+    }
+
+}
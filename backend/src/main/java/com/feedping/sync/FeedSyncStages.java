@@ -0,0 +1,29 @@
+package com.feedping.sync;
+
+import com.feedping.domain.RssFeed;
+
+/**
+ * 피드 동기화 파이프라인의 단계별 작업
+ * 수집 단계는 네트워크 요청과 파싱만 수행하고, DB 접근은 반환한 작업으로 저장 단계에 넘김
+ */
+public interface FeedSyncStages {
+
+    /**
+     * 수집 단계 (가상 스레드, 호스트 차례와 전역 수집 슬롯 안에서 실행)
+     *
+     * @return 저장 단계에서 실행할 작업
+     * @throws RuntimeException 수집 실패 시 (호스트 요청 제한은 HostFetchScheduler가 처리)
+     */
+    Runnable fetch(RssFeed feed);
+
+    /**
+     * 수집에 실패했거나 마감 시간을 넘겨 중단한 피드의 실패 기록 / 재시도 예약 작업 (저장 단계에서 실행)
+     */
+    Runnable fetchFailed(RssFeed feed, RuntimeException cause);
+
+    /**
+     * 호스트 차례를 얻지 못하는 등 수집을 시작하지 못한 피드 (저장 없이 정리만 수행)
+     */
+    void skipped(RssFeed feed);
+
+}
@@ -0,0 +1,154 @@
+package com.feedping.sync;
+
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.exception.RssFetchThrottledException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호스트별 피드 수집 스케줄러
+ * 같은 호스트에 대해 동시 요청 수와 요청 간 최소 간격을 지키고, 서버의 Retry-After를 따름
+ * 다른 호스트의 피드는 서로 영향을 주지 않음
+ */
+@Slf4j
+@Component
+public class HostFetchScheduler {
+
+    private final FeedSyncProperties.Politeness politeness;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    // 호스트별 요청 슬롯
+    private final Map<String, HostSlot> hostSlots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HostFetchScheduler(FeedSyncProperties properties) {
+        this(properties, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    HostFetchScheduler(FeedSyncProperties properties, LongSupplier nanoClock, Sleeper sleeper) {
+        this.politeness = properties.politeness();
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * 호스트 제한을 지키며 수집 작업 실행
+     *
+     * @param url       수집할 피드 URL
+     * @param fetchTask 수집 작업
+     * @throws GlobalException 호스트 차례를 기다리는 시간이 최대 대기 시간을 넘는 경우
+     */
+    public void execute(String url, Runnable fetchTask) {
+        String host = extractHost(url);
+        HostSlot slot = hostSlots.computeIfAbsent(host, h -> new HostSlot(politeness.perHostConcurrency(), nanoClock.getAsLong()));
+
+        acquire(slot.permits);
+        try {
+            waitForTurn(slot, host);
+            fetchTask.run();
+        } catch (RssFetchThrottledException e) {
+            Duration retryAfter = resolveRetryAfter(e.getRetryAfter());
+            slot.deferFor(nanoClock.getAsLong(), retryAfter.toNanos());
+            log.warn("호스트 요청 제한으로 {} 동안 수집을 미룹니다: {}", retryAfter, host);
+            throw e;
+        } finally {
+            slot.permits.release();
+        }
+    }
+
+    private void waitForTurn(HostSlot slot, String host) {
+        long waitNanos = slot.reserve(nanoClock.getAsLong(), politeness.minRequestGap().toNanos(),
+                politeness.maxWait().toNanos());
+        if (waitNanos < 0) {
+            throw new GlobalException(ErrorCode.RSS_FEED_RATE_LIMITED,
+                    "호스트 요청 간격 대기 시간이 길어 이번 주기 수집을 건너뜁니다: " + host);
+        }
+
+        if (waitNanos > 0) {
+            try {
+                sleeper.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("호스트 요청 간격 대기 중 인터럽트 발생", e);
+            }
+        }
+    }
+
+    private Duration resolveRetryAfter(Duration retryAfter) {
+        if (retryAfter == null) {
+            return politeness.defaultRetryAfter();
+        }
+        return retryAfter.compareTo(politeness.maxRetryAfter()) > 0 ? politeness.maxRetryAfter() : retryAfter;
+    }
+
+    private void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("호스트 요청 슬롯 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    static String extractHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            if (host != null) {
+                return host.toLowerCase(Locale.ROOT);
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 해석할 수 없는 URL은 URL 자체를 키로 사용
+        }
+        return url;
+    }
+
+    // 요청 간격 대기 (나노초)
+    @FunctionalInterface
+    interface Sleeper {
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private static final class HostSlot {
+
+        private final Semaphore permits;
+        private long nextAllowedAtNanos;
+
+        private HostSlot(int concurrency, long nowNanos) {
+            this.permits = new Semaphore(concurrency, true);
+            this.nextAllowedAtNanos = nowNanos;
+        }
+
+        /**
+         * 다음 요청 시점을 예약하고 대기해야 할 시간을 반환
+         *
+         * @return 대기 시간 (나노초), 최대 대기 시간을 넘으면 -1
+         */
+        private synchronized long reserve(long now, long gapNanos, long maxWaitNanos) {
+            long startAt = Math.max(now, nextAllowedAtNanos);
+            long waitNanos = startAt - now;
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+
+            nextAllowedAtNanos = startAt + gapNanos;
+            return waitNanos;
+        }
+
+        private synchronized void deferFor(long now, long delayNanos) {
+            nextAllowedAtNanos = Math.max(nextAllowedAtNanos, now + delayNanos);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.feedping.sync;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.dto.FeedFetchResult;
+import com.feedping.dto.RssItemDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드별 폴링 간격 계산
+ * 피드 항목의 발행 시각 이력과 수집 결과로 다음 폴링까지의 간격을 학습
+ */
+@Component
+public class PollIntervalCalculator {
+
+    // 발행 주기 동안 몇 번 폴링할지 (발행 주기의 1/4 간격으로 폴링)
+    private static final int POLLS_PER_PUBLISH_GAP = 4;
+
+    // 변경이 없을 때 간격을 늘리는 배율
+    private static final double UNCHANGED_GROWTH_FACTOR = 1.5;
+
+    // 발행 주기 계산에 사용할 최근 간격 수
+    private static final int MAX_SAMPLED_GAPS = 10;
+
+    private final FeedSyncProperties.Polling polling;
+
+    public PollIntervalCalculator(FeedSyncProperties properties) {
+        this.polling = properties.polling();
+    }
+
+    /**
+     * 수집 결과로 다음 폴링 간격 계산
+     *
+     * @param fetchState 이전 수집 상태 (이전에 학습된 간격 포함)
+     * @param result     이번 수집 결과
+     * @param now        현재 시각
+     * @return 최소/최대 범위 안의 폴링 간격
+     */
+    public Duration calculate(FeedFetchState fetchState, FeedFetchResult result, LocalDateTime now) {
+        Duration previous = fetchState.getPollInterval();
+
+        if (result.isContentChanged()) {
+            List<LocalDateTime> publishedAts = sortedPublishedAts(result.getItems());
+            if (publishedAts.size() >= 2) {
+                return clamp(fromPublishCadence(publishedAts, now));
+            }
+        }
+
+        // 변경이 없거나 발행 시각을 알 수 없으면 이전 간격을 점진적으로 늘림
+        if (previous == null) {
+            return polling.minInterval();
+        }
+        return clamp(Duration.ofMillis((long) (previous.toMillis() * UNCHANGED_GROWTH_FACTOR)));
+    }
+
+    /**
+     * 실패 등으로 학습할 수 없는 경우의 다음 폴링 간격
+     */
+    public Duration fallback(FeedFetchState fetchState) {
+        Duration previous = fetchState.getPollInterval();
+        return previous != null ? clamp(previous) : polling.minInterval();
+    }
+
+    private Duration fromPublishCadence(List<LocalDateTime> publishedAts, LocalDateTime now) {
+        List<Duration> gaps = new ArrayList<>();
+        for (int i = 0; i + 1 < publishedAts.size() && gaps.size() < MAX_SAMPLED_GAPS; i++) {
+            gaps.add(Duration.between(publishedAts.get(i + 1), publishedAts.get(i)));
+        }
+        gaps.sort(Comparator.naturalOrder());
+        Duration medianGap = gaps.get(gaps.size() / 2);
+
+        // 오랫동안 새 글이 없는 피드는 마지막 발행 이후 경과 시간을 주기로 간주
+        Duration sinceLatest = Duration.between(publishedAts.get(0), now);
+        Duration cadence = sinceLatest.compareTo(medianGap) > 0 ? sinceLatest : medianGap;
+
+        return cadence.dividedBy(POLLS_PER_PUBLISH_GAP);
+    }
+
+    private List<LocalDateTime> sortedPublishedAts(List<RssItemDto> items) {
+        return items.stream()
+                .map(RssItemDto::getPublishedAt)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+    private Duration clamp(Duration interval) {
+        if (interval.compareTo(polling.minInterval()) < 0) {
+            return polling.minInterval();
+        }
+        if (interval.compareTo(polling.maxInterval()) > 0) {
+            return polling.maxInterval();
+        }
+        return interval;
+    }
+
+}
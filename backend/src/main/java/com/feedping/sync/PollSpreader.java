@@ -0,0 +1,86 @@
+package com.feedping.sync;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 폴링 시각 분산
+ * 피드 ID 해시로 분산 구간 안의 고정 오프셋(위상)을 정하고, 폴링 시각을 그 위상에 맞춤
+ * 같은 사이클에 수집된 피드도 다음부터는 구간 전체에 흩어져 수집되므로 요청, DB 쓰기, 알림 적재가 몰리지 않음
+ */
+@Component
+public class PollSpreader {
+
+    private final FeedSyncProperties.Polling polling;
+
+    // 상한을 받아 [0, 상한] 범위의 무작위 지연(ms) 반환
+    private final LongUnaryOperator jitterSource;
+
+    @Autowired
+    public PollSpreader(FeedSyncProperties properties) {
+        this(properties, bound -> ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+
+    PollSpreader(FeedSyncProperties properties, LongUnaryOperator jitterSource) {
+        this.polling = properties.polling();
+        this.jitterSource = jitterSource;
+    }
+
+    /**
+     * 학습된 간격으로 정한 폴링 시각을 가장 가까운 피드 위상으로 옮김
+     * 앞뒤로 최대 구간의 절반만 옮기므로, 한 번 위상에 맞춰진 피드는 수집 지연이 쌓여도 위상을 벗어나지 않음
+     *
+     * @param dueAt    간격만으로 계산한 다음 폴링 시각
+     * @param interval 학습된 폴링 간격 (분산 구간은 이 간격을 넘지 않음)
+     */
+    public LocalDateTime align(Long rssFeedId, LocalDateTime dueAt, Duration interval) {
+        long window = Math.min(polling.spreadWindow().toMillis(), interval.toMillis());
+        if (window <= 0) {
+            return dueAt;
+        }
+
+        long shift = Math.floorMod(offset(rssFeedId, window) - toMillis(dueAt), window);
+        if (shift >= window / 2) {
+            shift -= window;
+        }
+        return dueAt.plus(Duration.ofMillis(shift + jitter(window)));
+    }
+
+    /**
+     * 폴링 시각이 지났거나 없는 피드(시작 직후, 장애 복구 후 등)를 지금부터 구간 안의 피드 위상으로 예약
+     * 밀린 피드가 한 사이클에 한꺼번에 수집되지 않도록 함
+     */
+    public LocalDateTime catchUp(Long rssFeedId, LocalDateTime nextPollAt, LocalDateTime now) {
+        if (nextPollAt != null && nextPollAt.isAfter(now)) {
+            return nextPollAt;
+        }
+
+        long window = polling.spreadWindow().toMillis();
+        if (window <= 0) {
+            return now;
+        }
+        long shift = Math.floorMod(offset(rssFeedId, window) - toMillis(now), window);
+        return now.plus(Duration.ofMillis(shift + jitter(window)));
+    }
+
+    // 피드 고유 위상 (구간 안의 고정 오프셋)
+    static long offset(long rssFeedId, long window) {
+        return Math.floorMod(FeedHashing.mix(rssFeedId), window);
+    }
+
+    // 위상 판별을 흐리지 않도록 구간의 1/4을 넘지 않게 제한
+    private long jitter(long window) {
+        long bound = Math.min(polling.jitter().toMillis(), window / 4);
+        return bound > 0 ? jitterSource.applyAsLong(bound) : 0;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.feedping.sync;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 순으로 배정되는 동시 실행 슬롯
+ * 슬롯이 비면 대기 중인 작업 중 순위가 가장 높은(값이 작은) 작업에 먼저 배정하고, 순위가 같으면 먼저 기다린 작업에 배정
+ */
+final class PriorityPermits {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparingLong(Waiter::rank).thenComparingLong(Waiter::sequence));
+
+    private int available;
+    private long sequence;
+
+    PriorityPermits(int permits) {
+        this.available = permits;
+    }
+
+    /**
+     * 슬롯 획득 (순위 값이 작을수록 먼저 배정)
+     */
+    void acquire(long rank) throws InterruptedException {
+        lock.lock();
+        try {
+            if (available > 0 && waiters.isEmpty()) {
+                available--;
+                return;
+            }
+
+            Waiter waiter = new Waiter(rank, sequence++, lock.newCondition());
+            waiters.add(waiter);
+            try {
+                while (!waiter.granted) {
+                    waiter.condition.await();
+                }
+            } catch (InterruptedException e) {
+                // 이미 배정된 슬롯은 다음 대기자에게 넘김
+                if (waiter.granted) {
+                    releaseLocked();
+                } else {
+                    waiters.remove(waiter);
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        Waiter next = waiters.poll();
+        if (next == null) {
+            available++;
+            return;
+        }
+        next.granted = true;
+        next.condition.signal();
+    }
+
+    private static final class Waiter {
+
+        private final long rank;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(long rank, long sequence, Condition condition) {
+            this.rank = rank;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+
+        private long rank() {
+            return rank;
+        }
+
+        private long sequence() {
+            return sequence;
+        }
+    }
+
+}
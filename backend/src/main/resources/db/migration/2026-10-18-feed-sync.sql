@@ -0,0 +1,52 @@
+-- 피드 동기화 개선에 따른 스키마 변경 (MySQL)
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용
+-- 새 컬럼은 모두 NULL 허용이며, 기존 피드는 다음 수집부터 값이 채워짐 (정규화 주소는 DuplicateFeedMerger가 채움)
+
+-- 피드 수집 상태 (FeedFetchState)
+ALTER TABLE rss_feed
+    ADD COLUMN etag                  VARCHAR(1024) NULL,
+    ADD COLUMN last_modified         VARCHAR(255)  NULL,
+    ADD COLUMN last_fetched_at       DATETIME(6)   NULL,
+    ADD COLUMN body_fingerprint      BIGINT        NULL,
+    ADD COLUMN charset               VARCHAR(40)   NULL,
+    ADD COLUMN oversized             BIT(1)        NULL,
+    ADD COLUMN consecutive_failures  INT           NULL,
+    ADD COLUMN last_error            VARCHAR(100)  NULL,
+    ADD COLUMN last_success_at       DATETIME(6)   NULL,
+    ADD COLUMN poll_interval_seconds BIGINT        NULL,
+    ADD COLUMN next_poll_at          DATETIME(6)   NULL,
+    ADD COLUMN newest_entry_at       DATETIME(6)   NULL,
+    ADD COLUMN recent_entry_keys     VARCHAR(700)  NULL,
+    ADD COLUMN baseline_pending      BIT(1)        NULL;
+
+-- 구독자가 없는 피드 보관 / 중복 피드 병합
+ALTER TABLE rss_feed
+    ADD COLUMN orphaned_at   DATETIME(6)   NULL,
+    ADD COLUMN canonical_url VARCHAR(4096) NULL;
+
+-- utf8mb4 인덱스 키 한도(3072 bytes) 안에서 앞부분만 인덱싱 (중복 조회는 전체 값으로 비교)
+CREATE INDEX idx_rss_feed_canonical_url ON rss_feed (canonical_url(768));
+
+-- 항목 저장 시각 (구독 이전 항목을 새 구독자에게 보내지 않도록 사용, 기존 항목은 NULL)
+ALTER TABLE rss_item
+    ADD COLUMN created_at DATETIME(6) NULL;
+
+-- 피드별 WebSub 구독 (WebSubSubscription)
+CREATE TABLE web_sub_subscription
+(
+    id                    BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at            DATETIME(6)   NULL,
+    rss_feed_id           BIGINT        NOT NULL,
+    hub_url               VARCHAR(2048) NOT NULL,
+    topic_url             VARCHAR(4096) NOT NULL,
+    secret                VARCHAR(64)   NOT NULL,
+    callback_token        VARCHAR(64)   NOT NULL,
+    status                VARCHAR(20)   NOT NULL,
+    requested_at          DATETIME(6)   NULL,
+    awaiting_verification BIT(1)        NOT NULL,
+    lease_expires_at      DATETIME(6)   NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_web_sub_subscription_rss_feed UNIQUE (rss_feed_id),
+    CONSTRAINT uk_web_sub_subscription_callback_token UNIQUE (callback_token),
+    CONSTRAINT fk_web_sub_subscription_rss_feed FOREIGN KEY (rss_feed_id) REFERENCES rss_feed (id)
+);
@@ -0,0 +1,56 @@
+package com.feedping.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedFetchStateTest {
+
+    @Test
+    @DisplayName("검증자가 성공적으로 갱신된다")
+    void should_UpdateValidators_When_ValuesPresent() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+
+        // when
+        fetchState.updateValidators("\"abc123\"", "Wed, 21 Oct 2015 07:28:00 GMT");
+
+        // then
+        assertThat(fetchState.getEtag()).isEqualTo("\"abc123\"");
+        assertThat(fetchState.getLastModified()).isEqualTo("Wed, 21 Oct 2015 07:28:00 GMT");
+        assertThat(fetchState.hasValidators()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답에 검증자가 없으면 기존 검증자를 유지한다")
+    void should_KeepPreviousValidators_When_ResponseHasNoValidators() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+        fetchState.updateValidators("\"abc123\"", "Wed, 21 Oct 2015 07:28:00 GMT");
+
+        // when
+        fetchState.updateValidators(null, "");
+
+        // then
+        assertThat(fetchState.getEtag()).isEqualTo("\"abc123\"");
+        assertThat(fetchState.getLastModified()).isEqualTo("Wed, 21 Oct 2015 07:28:00 GMT");
+    }
+
+    @Test
+    @DisplayName("마지막 수집 시간이 기록된다")
+    void should_RecordLastFetchedAt() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+        LocalDateTime fetchedAt = LocalDateTime.now();
+
+        // when
+        fetchState.recordFetch(fetchedAt);
+
+        // then
+        assertThat(fetchState.getLastFetchedAt()).isEqualTo(fetchedAt);
+        assertThat(fetchState.hasValidators()).isFalse();
+    }
+
+}
@@ -24,6 +24,8 @@ class RssFeedTest {
         assertThat(rssFeed).isNotNull();
         assertThat(rssFeed.getId()).isEqualTo(id);
         assertThat(rssFeed.getUrl()).isEqualTo(url);
+        assertThat(rssFeed.getFetchState()).isNotNull();
+        assertThat(rssFeed.getFetchState().hasValidators()).isFalse();
     }
 
     @Test
@@ -0,0 +1,76 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.feedping.rss.DeadlineInputStream.DeadlineExceededException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DeadlineInputStreamTest {
+
+    @Test
+    @DisplayName("제한 시간 안에 읽으면 본문을 그대로 전달한다")
+    void should_ReadBody_When_WithinDeadline() throws IOException {
+        // given
+        DeadlineInputStream stream = new DeadlineInputStream(
+                new ByteArrayInputStream("<rss/>".getBytes()), Duration.ofSeconds(5));
+
+        // when
+        byte[] body = stream.readAllBytes();
+        stream.close();
+
+        // then
+        assertThat(new String(body)).isEqualTo("<rss/>");
+    }
+
+    @Test
+    @DisplayName("서버가 본문 전송 중 멈추면 제한 시간 후 읽기가 중단된다")
+    void should_AbortRead_When_ServerStalls() throws IOException {
+        // given
+        DeadlineInputStream stream = new DeadlineInputStream(new StalledInputStream('<'), Duration.ofMillis(200));
+
+        // when & then
+        assertThat(stream.read()).isEqualTo('<');
+        assertThatThrownBy(stream::read)
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    /**
+     * 첫 바이트만 보내고 닫힐 때까지 멈춰 있는 응답 본문
+     */
+    private static class StalledInputStream extends InputStream {
+
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private int first;
+
+        StalledInputStream(int first) {
+            this.first = first;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (first != -1) {
+                int b = first;
+                first = -1;
+                return b;
+            }
+            try {
+                closed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("stream closed");
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedCharsetDetectorTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @Test
+    @DisplayName("BOM이 있으면 헤더보다 BOM을 우선한다")
+    void should_UseBom_When_BomPresent() {
+        // given
+        byte[] body = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '<', 'r', 's', 's', '>'};
+
+        // when
+        Charset charset = FeedCharsetDetector.detect(body, "EUC-KR", null);
+
+        // then
+        assertThat(charset).isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Content-Type 헤더의 charset이 XML 선언보다 우선한다")
+    void should_UseContentTypeCharset_When_HeaderPresent() {
+        // given
+        byte[] body = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss/>".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        Charset charset = FeedCharsetDetector.detect(body, "EUC-KR", null);
+
+        // then
+        assertThat(charset).isEqualTo(Charset.forName("EUC-KR"));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 XML 선언의 encoding을 사용한다")
+    void should_UseXmlDeclaration_When_NoHeader() {
+        // given
+        byte[] body = "<?xml version='1.0' encoding='euc-kr'?><rss/>".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        Charset charset = FeedCharsetDetector.detect(body, null, "UTF-8");
+
+        // then
+        assertThat(charset).isEqualTo(Charset.forName("EUC-KR"));
+    }
+
+    @Test
+    @DisplayName("헤더와 XML 선언이 없으면 이전 수집의 문자셋을 재사용한다")
+    void should_UseCachedCharset_When_NoDeclaration() {
+        // given
+        byte[] body = "<rss><channel><title>블로그</title></channel></rss>".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Charset charset = FeedCharsetDetector.detect(body, null, "MS949");
+
+        // then
+        assertThat(charset).isEqualTo(MS949);
+    }
+
+    @Test
+    @DisplayName("단서가 없으면 UTF-8이 아닌 한글 본문을 레거시 인코딩으로 추정한다")
+    void should_GuessKoreanLegacy_When_BodyIsNotUtf8() {
+        // given
+        byte[] body = "<rss><channel><title>개발 블로그</title></channel></rss>".getBytes(MS949);
+
+        // when
+        Charset charset = FeedCharsetDetector.detect(body, null, null);
+
+        // then
+        assertThat(charset).isEqualTo(MS949);
+    }
+
+    @Test
+    @DisplayName("앞부분이 멀티바이트 글자 중간에서 잘려도 UTF-8로 추정한다")
+    void should_GuessUtf8_When_PrefixEndsMidCharacter() {
+        // given
+        byte[] full = "<rss><title>한글</title>".getBytes(StandardCharsets.UTF_8);
+        byte[] body = Arrays.copyOf(full, full.length - "</title>".length() - 1);
+
+        // when
+        Charset charset = FeedCharsetDetector.detect(body, null, null);
+
+        // then
+        assertThat(charset).isEqualTo(StandardCharsets.UTF_8);
+    }
+}
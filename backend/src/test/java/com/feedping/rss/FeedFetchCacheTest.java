@@ -0,0 +1,122 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.feedping.dto.FeedFetchResult;
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.metrics.NotificationMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedFetchCacheTest {
+
+    private static final String URL = "https://blog.example.com/feed";
+
+    private final AtomicLong clock = new AtomicLong();
+    private FeedFetchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        FeedHttpProperties properties = new FeedHttpProperties(null, null, null, null,
+                Duration.ofMinutes(2), Duration.ofSeconds(30), 10);
+        cache = new FeedFetchCache(properties, mock(NotificationMetrics.class), clock::get);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 URL 요청은 한 번만 수집한다")
+    void should_FetchOnce_When_ConcurrentRequestsForSameUrl() throws Exception {
+        // given
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        FeedFetchResult fetched = FeedFetchResult.modified(Collections.emptyList(), null, null);
+        int requests = 8;
+
+        // when
+        List<Future<FeedFetchResult>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> cache.get(URL, () -> {
+                    fetchCount.incrementAndGet();
+                    await(release);
+                    return fetched;
+                })));
+            }
+            // 늦게 도착한 요청은 합류 대신 보관된 결과를 받으므로 어느 쪽이든 수집은 한 번
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<FeedFetchResult> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(fetched);
+            }
+        }
+
+        // then
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("유효 기간 안에는 보관한 결과를 재사용하고, 지나면 다시 수집한다")
+    void should_ReuseResult_Until_TtlExpires() {
+        // given
+        AtomicInteger fetchCount = new AtomicInteger();
+        cache.get(URL, () -> countedFetch(fetchCount));
+
+        // when
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        cache.get(URL, () -> countedFetch(fetchCount));
+        FeedFetchResult shared = cache.getIfFresh(URL);
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.get(URL, () -> countedFetch(fetchCount));
+
+        // then
+        assertThat(shared).isNotNull();
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("실패한 URL은 짧은 기간 동안 다시 요청하지 않고 같은 오류를 반환한다")
+    void should_CacheFailure_When_FetchFails() {
+        // given
+        AtomicInteger fetchCount = new AtomicInteger();
+        GlobalException failure = new GlobalException(ErrorCode.RSS_FEED_INVALID_FORMAT);
+        assertThatThrownBy(() -> cache.get(URL, () -> {
+            fetchCount.incrementAndGet();
+            throw failure;
+        })).isSameAs(failure);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(URL, () -> countedFetch(fetchCount))).isSameAs(failure);
+        assertThat(cache.getIfFresh(URL)).isNull();
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        cache.get(URL, () -> countedFetch(fetchCount));
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    private FeedFetchResult countedFetch(AtomicInteger fetchCount) {
+        fetchCount.incrementAndGet();
+        return FeedFetchResult.modified(Collections.emptyList(), null, null);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedUrlsTest {
+
+    @Test
+    @DisplayName("스킴, www, 끝 슬래시, 추적 파라미터만 다른 주소는 같은 주소로 정규화된다")
+    void should_CanonicalizeVariantsToSameKey_When_OnlyPresentationDiffers() {
+        // when & then
+        assertThat(FeedUrls.canonicalize("http://x.com/feed")).isEqualTo("x.com/feed");
+        assertThat(FeedUrls.canonicalize("https://x.com/feed/")).isEqualTo("x.com/feed");
+        assertThat(FeedUrls.canonicalize("https://www.X.com/feed?utm_source=newsletter&fbclid=abc")).isEqualTo("x.com/feed");
+        assertThat(FeedUrls.canonicalize("https://x.com:443/feed#latest")).isEqualTo("x.com/feed");
+    }
+
+    @Test
+    @DisplayName("내용을 바꾸는 쿼리 파라미터와 기본이 아닌 포트는 유지하고 파라미터 순서는 정렬한다")
+    void should_KeepMeaningfulQueryAndPort_When_Canonicalizing() {
+        // when
+        String canonical = FeedUrls.canonicalize("https://x.com:8443/index.php?type=rss&cat=2&utm_medium=rss");
+
+        // then
+        assertThat(canonical).isEqualTo("x.com:8443/index.php?cat=2&type=rss");
+    }
+
+    @Test
+    @DisplayName("경로의 대소문자는 구분하고, 빈 경로는 루트로 본다")
+    void should_KeepPathCase_When_Canonicalizing() {
+        // when & then
+        assertThat(FeedUrls.canonicalize("https://x.com/Feed")).isNotEqualTo(FeedUrls.canonicalize("https://x.com/feed"));
+        assertThat(FeedUrls.canonicalize("https://x.com")).isEqualTo(FeedUrls.canonicalize("http://www.x.com/"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FingerprintInputStreamTest {
+
+    @Test
+    @DisplayName("같은 본문은 읽는 방식과 무관하게 같은 지문을 만든다")
+    void should_ProduceSameFingerprint_When_BodyIsSame() throws IOException {
+        // given
+        byte[] body = "<rss><channel><item><title>글</title></item></channel></rss>".getBytes(StandardCharsets.UTF_8);
+        FingerprintInputStream bulk = new FingerprintInputStream(new ByteArrayInputStream(body));
+        FingerprintInputStream single = new FingerprintInputStream(new ByteArrayInputStream(body));
+
+        // when
+        bulk.transferTo(OutputStream.nullOutputStream());
+        single.skip(5);
+        while (single.read() != -1) {
+            // 한 바이트씩 끝까지 읽음
+        }
+
+        // then
+        assertThat(bulk.fingerprint()).isEqualTo(single.fingerprint());
+    }
+
+    @Test
+    @DisplayName("본문이 다르면 지문도 달라진다")
+    void should_ProduceDifferentFingerprint_When_BodyChanges() throws IOException {
+        // given
+        FingerprintInputStream first = new FingerprintInputStream(
+                new ByteArrayInputStream("<rss>first</rss>".getBytes(StandardCharsets.UTF_8)));
+        FingerprintInputStream second = new FingerprintInputStream(
+                new ByteArrayInputStream("<rss>second</rss>".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        first.transferTo(OutputStream.nullOutputStream());
+        second.transferTo(OutputStream.nullOutputStream());
+
+        // then
+        assertThat(first.fingerprint()).isNotEqualTo(second.fingerprint());
+    }
+}
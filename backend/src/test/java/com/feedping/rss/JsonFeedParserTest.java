@@ -0,0 +1,124 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.feedping.dto.RssItemDto;
+import com.feedping.rss.StaxFeedParser.ParsedFeed;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonFeedParserTest {
+
+    private static final String JSON_FEED = """
+            {
+              "version": "https://jsonfeed.org/version/1.1",
+              "title": "블로그",
+              "feed_url": "https://blog.example.com/feed.json",
+              "hubs": [
+                { "type": "rssCloud", "url": "https://cloud.example.com/" },
+                { "type": "WebSub", "url": "https://hub.example.com/" }
+              ],
+              "items": [
+                {
+                  "id": "1",
+                  "url": "https://blog.example.com/1",
+                  "title": "첫 번째 글",
+                  "content_html": "<p>본문</p>",
+                  "date_published": "2025-03-01T12:00:00+09:00",
+                  "tags": ["java", "feed"]
+                },
+                {
+                  "id": "https://blog.example.com/2",
+                  "content_text": "제목 없는 짧은 글",
+                  "date_modified": "2025-02-28T09:00:00+09:00"
+                },
+                {
+                  "id": "3",
+                  "external_url": "https://other.example.com/3",
+                  "title": "세 번째 글"
+                }
+              ]
+            }
+            """;
+
+    @Test
+    @DisplayName("본문이 '{'로 시작하거나 Content-Type이 JSON이면 JSON Feed로 판별한다")
+    void should_DetectJsonFeed_When_BodyOrContentTypeIsJson() {
+        assertThat(JsonFeedParser.isJsonFeed(bytes("\uFEFF  {\"version\":\"\"}"), null)).isTrue();
+        assertThat(JsonFeedParser.isJsonFeed(bytes(" "), "application/feed+json; charset=utf-8")).isTrue();
+        assertThat(JsonFeedParser.isJsonFeed(bytes("<rss/>"), "application/json")).isFalse();
+        assertThat(JsonFeedParser.isJsonFeed(bytes("<rss/>"), "application/rss+xml")).isFalse();
+    }
+
+    @Test
+    @DisplayName("항목, 허브, self 주소를 읽는다")
+    void should_ParseItems_When_JsonFeed() throws IOException {
+        // when
+        ParsedFeed parsed = JsonFeedParser.parse(stream(JSON_FEED), 20, item -> true);
+
+        // then
+        assertThat(parsed.entryCount()).isEqualTo(3);
+        assertThat(parsed.hubUrl()).isEqualTo("https://hub.example.com/");
+        assertThat(parsed.selfUrl()).isEqualTo("https://blog.example.com/feed.json");
+        assertThat(parsed.items()).extracting(RssItemDto::getLink).containsExactly(
+                "https://blog.example.com/1", "https://blog.example.com/2", "https://other.example.com/3");
+
+        RssItemDto first = parsed.items().get(0);
+        assertThat(first.getTitle()).isEqualTo("첫 번째 글");
+        assertThat(first.getDescription()).isEqualTo("<p>본문</p>");
+        assertThat(first.getPublishedAt()).isEqualTo(ZonedDateTime.of(2025, 3, 1, 12, 0, 0, 0, ZoneId.of("+09:00"))
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+
+        RssItemDto second = parsed.items().get(1);
+        assertThat(second.getTitle()).isEqualTo("제목 없는 짧은 글");
+        assertThat(second.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 채우면 나머지 항목은 읽지 않는다")
+    void should_StopReading_When_MaxEntriesReached() throws IOException {
+        // when
+        ParsedFeed parsed = JsonFeedParser.parse(stream(JSON_FEED), 1, item -> true);
+
+        // then
+        assertThat(parsed.entryCount()).isEqualTo(1);
+        assertThat(parsed.items()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("크기 한도에 걸리면 완전히 읽은 항목까지만 반환한다")
+    void should_ReturnTruncated_When_BodyTooLarge() throws IOException {
+        // given: 세 번째 항목 중간에서 한도 도달
+        String head = JSON_FEED.substring(0, JSON_FEED.indexOf("\"id\": \"3\""));
+        InputStream limited = new SizeLimitInputStream(stream(JSON_FEED), bytes(head).length);
+
+        // when
+        ParsedFeed parsed = JsonFeedParser.parse(limited, 20, item -> true);
+
+        // then
+        assertThat(parsed.truncated()).isTrue();
+        assertThat(parsed.items()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 아니면 형식 오류로 처리한다")
+    void should_ThrowIllegalArgument_When_MalformedJson() {
+        assertThatThrownBy(() -> JsonFeedParser.parse(stream("{\"items\": [ {\"id\": "), 20, item -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(bytes(json));
+    }
+
+    private byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
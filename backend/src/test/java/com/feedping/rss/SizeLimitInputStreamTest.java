@@ -0,0 +1,38 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.feedping.rss.SizeLimitInputStream.BodyTooLargeException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SizeLimitInputStreamTest {
+
+    @Test
+    @DisplayName("한도 이하의 본문은 끝까지 읽는다")
+    void should_ReadAll_When_WithinLimit() throws IOException {
+        // given
+        SizeLimitInputStream stream = new SizeLimitInputStream(new ByteArrayInputStream(new byte[100]), 100);
+
+        // when
+        byte[] body = stream.readAllBytes();
+
+        // then
+        assertThat(body).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 순간 읽기를 중단한다")
+    void should_Abort_When_LimitExceeded() {
+        // given
+        SizeLimitInputStream stream = new SizeLimitInputStream(new ByteArrayInputStream(new byte[101]), 100);
+
+        // when & then
+        assertThatThrownBy(() -> stream.transferTo(OutputStream.nullOutputStream()))
+                .isInstanceOf(BodyTooLargeException.class);
+    }
+}
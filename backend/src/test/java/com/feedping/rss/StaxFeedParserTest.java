@@ -0,0 +1,138 @@
+package com.feedping.rss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.feedping.dto.RssItemDto;
+import com.feedping.rss.StaxFeedParser.Format;
+import com.feedping.rss.StaxFeedParser.ParsedFeed;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StaxFeedParserTest {
+
+    private static final String RSS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0" xmlns:dc="http://purl.org/dc/elements/1.1/">
+              <channel>
+                <title>블로그</title>
+                <item>
+                  <title><![CDATA[첫 번째 글]]></title>
+                  <link> https://blog.example.com/1 </link>
+                  <description><![CDATA[<p>본문</p>]]></description>
+                  <pubDate>Sat, 01 Mar 2025 12:00:00 +0900</pubDate>
+                </item>
+                <item>
+                  <title>두 번째 글</title>
+                  <guid>https://blog.example.com/2</guid>
+                  <dc:date>2025-02-28T09:00:00+09:00</dc:date>
+                </item>
+                <item>
+                  <title>세 번째 글</title>
+                  <link>https://blog.example.com/3</link>
+                </item>
+              </channel>
+            </rss>
+            """;
+
+    private static final String ATOM = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <feed xmlns="http://www.w3.org/2005/Atom">
+              <title>블로그</title>
+              <entry>
+                <title>Atom 글</title>
+                <link rel="edit" href="https://blog.example.com/edit/1"/>
+                <link href="https://blog.example.com/atom/1"/>
+                <summary>요약</summary>
+                <updated>2025-03-01T03:00:00Z</updated>
+              </entry>
+            </feed>
+            """;
+
+    @Test
+    @DisplayName("RSS 2.0 항목을 읽어 제목, 링크, 설명, 발행 시각을 추출한다")
+    void should_ParseRssItems_When_FeedIsRss() throws Exception {
+        // when
+        ParsedFeed parsed = StaxFeedParser.parse(new StringReader(RSS), Format.RSS, 20, item -> true);
+
+        // then
+        assertThat(parsed.entryCount()).isEqualTo(3);
+        RssItemDto first = parsed.items().get(0);
+        assertThat(first.getTitle()).isEqualTo("첫 번째 글");
+        assertThat(first.getLink()).isEqualTo("https://blog.example.com/1");
+        assertThat(first.getDescription()).isEqualTo("<p>본문</p>");
+        assertThat(first.getPublishedAt()).isEqualTo(localTime("2025-03-01T12:00:00+09:00"));
+
+        RssItemDto second = parsed.items().get(1);
+        assertThat(second.getLink()).isEqualTo("https://blog.example.com/2");
+        assertThat(second.getPublishedAt()).isEqualTo(localTime("2025-02-28T09:00:00+09:00"));
+    }
+
+    @Test
+    @DisplayName("필요한 항목 수를 채우면 나머지 항목은 읽지 않는다")
+    void should_StopReading_When_MaxEntriesReached() throws Exception {
+        // when
+        ParsedFeed parsed = StaxFeedParser.parse(new StringReader(RSS), Format.RSS, 1, item -> true);
+
+        // then
+        assertThat(parsed.items()).hasSize(1);
+        assertThat(parsed.entryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Atom 항목은 alternate 링크와 summary를 사용한다")
+    void should_ParseAtomEntries_When_FeedIsAtom() throws Exception {
+        // when
+        ParsedFeed parsed = StaxFeedParser.parse(new StringReader(ATOM), Format.ATOM, 20, item -> true);
+
+        // then
+        RssItemDto entry = parsed.items().get(0);
+        assertThat(entry.getTitle()).isEqualTo("Atom 글");
+        assertThat(entry.getLink()).isEqualTo("https://blog.example.com/atom/1");
+        assertThat(entry.getDescription()).isEqualTo("요약");
+        assertThat(entry.getPublishedAt()).isEqualTo(localTime("2025-03-01T03:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("본문 크기 한도에 걸리면 마지막 완전한 항목까지만 반환한다")
+    void should_ReturnCompleteEntries_When_BodyTruncated() throws Exception {
+        // given
+        byte[] body = RSS.getBytes(StandardCharsets.UTF_8);
+        int limit = RSS.substring(0, RSS.indexOf("<title>세 번째 글")).getBytes(StandardCharsets.UTF_8).length;
+        InputStreamReader reader = new InputStreamReader(
+                new SizeLimitInputStream(new ByteArrayInputStream(body), limit), StandardCharsets.UTF_8);
+
+        // when
+        ParsedFeed parsed = StaxFeedParser.parse(reader, Format.RSS, 20, item -> true);
+
+        // then
+        assertThat(parsed.truncated()).isTrue();
+        assertThat(parsed.items()).extracting(RssItemDto::getTitle)
+                .containsExactly("첫 번째 글", "두 번째 글");
+    }
+
+    @Test
+    @DisplayName("루트 요소로 형식을 판별하고, 지원하지 않는 형식은 null을 반환한다")
+    void should_DetectFormat_When_RootElementKnown() {
+        // given
+        String rdf = "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"/>";
+
+        // when & then
+        assertThat(StaxFeedParser.detectFormat(RSS.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isEqualTo(Format.RSS);
+        assertThat(StaxFeedParser.detectFormat(ATOM.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isEqualTo(Format.ATOM);
+        assertThat(StaxFeedParser.detectFormat(rdf.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isNull();
+    }
+
+    private LocalDateTime localTime(String isoDateTime) {
+        return ZonedDateTime.parse(isoDateTime).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,155 @@
+package com.feedping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.dto.FeedFetchResult;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.rss.FeedFetchCache;
+import com.feedping.rss.FeedHttpProperties;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class RssCommonServiceTest {
+
+    private static final String OLD_URL = "http://blog.example.com/rss";
+    private static final String NEW_URL = "https://blog.example.com/feed";
+    private static final String TEMPORARY_URL = "https://cdn.example.com/feed";
+
+    private static final String RSS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0">
+              <channel>
+                <title>블로그</title>
+                <item>
+                  <title>첫 번째 글</title>
+                  <link>https://blog.example.com/1</link>
+                </item>
+              </channel>
+            </rss>
+            """;
+
+    private MockRestServiceServer server;
+    private RssCommonService rssCommonService;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        FeedHttpProperties properties = new FeedHttpProperties(null, null, null, null, null, null, 0);
+        NotificationMetrics metrics = mock(NotificationMetrics.class);
+        rssCommonService = new RssCommonService(restTemplate, properties, metrics,
+                new FeedFetchCache(properties, metrics));
+    }
+
+    @Test
+    @DisplayName("영구 리다이렉트를 따라가면 새 주소를 결과에 기록한다")
+    void should_RecordMovedTo_When_PermanentRedirect() {
+        // given
+        server.expect(requestTo(OLD_URL))
+                .andRespond(withStatus(HttpStatus.MOVED_PERMANENTLY).location(URI.create(NEW_URL)));
+        server.expect(requestTo(NEW_URL)).andRespond(withSuccess(RSS, MediaType.APPLICATION_XML));
+
+        // when
+        FeedFetchResult result = rssCommonService.fetchAndParseRssFeed(OLD_URL, new FeedFetchState());
+
+        // then
+        server.verify();
+        assertThat(result.getMovedTo()).isEqualTo(NEW_URL);
+        assertThat(result.getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("임시 리다이렉트가 섞이면 영구 이동이 이어진 주소까지만 기록한다")
+    void should_StopLearning_When_TemporaryRedirectFollows() {
+        // given
+        server.expect(requestTo(OLD_URL))
+                .andRespond(withStatus(HttpStatus.PERMANENT_REDIRECT).location(URI.create(NEW_URL)));
+        server.expect(requestTo(NEW_URL))
+                .andRespond(withStatus(HttpStatus.FOUND).location(URI.create(TEMPORARY_URL)));
+        server.expect(requestTo(TEMPORARY_URL)).andRespond(withSuccess(RSS, MediaType.APPLICATION_XML));
+
+        // when
+        FeedFetchResult result = rssCommonService.fetchAndParseRssFeed(OLD_URL, new FeedFetchState());
+
+        // then
+        assertThat(result.getMovedTo()).isEqualTo(NEW_URL);
+    }
+
+    @Test
+    @DisplayName("임시 리다이렉트만 있으면 주소를 바꾸지 않는다")
+    void should_NotRecordMovedTo_When_OnlyTemporaryRedirect() {
+        // given
+        server.expect(requestTo(NEW_URL))
+                .andRespond(withStatus(HttpStatus.FOUND).location(URI.create(TEMPORARY_URL)));
+        server.expect(requestTo(TEMPORARY_URL)).andRespond(withSuccess(RSS, MediaType.APPLICATION_XML));
+
+        // when
+        FeedFetchResult result = rssCommonService.fetchAndParseRssFeed(NEW_URL, new FeedFetchState());
+
+        // then
+        assertThat(result.getMovedTo()).isNull();
+    }
+
+    @Test
+    @DisplayName("파서가 일찍 멈추는 큰 본문도 받은 조각 크기와 무관하게 같은 지문을 만든다")
+    void should_ProduceSameFingerprint_When_ChunkSizesDiffer() {
+        // given: 파서가 읽는 최대 항목 수보다 훨씬 많은 항목
+        byte[] body = largeRss(200).getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo("https://a.example.com/feed"))
+                .andRespond(withSuccess(chunked(body, 7), MediaType.APPLICATION_XML));
+        server.expect(requestTo("https://b.example.com/feed"))
+                .andRespond(withSuccess(chunked(body, 16 * 1024), MediaType.APPLICATION_XML));
+
+        // when
+        FeedFetchResult small = rssCommonService.fetchAndParseRssFeed("https://a.example.com/feed",
+                new FeedFetchState());
+        FeedFetchResult large = rssCommonService.fetchAndParseRssFeed("https://b.example.com/feed",
+                new FeedFetchState());
+
+        // then
+        server.verify();
+        assertThat(small.getItems()).hasSize(20);
+        assertThat(small.getBodyFingerprint()).isNotNull().isEqualTo(large.getBodyFingerprint());
+    }
+
+    private String largeRss(int itemCount) {
+        StringBuilder rss = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <rss version="2.0">
+                  <channel>
+                    <title>블로그</title>
+                """);
+        for (int i = 1; i <= itemCount; i++) {
+            rss.append("<item><title>글 ").append(i).append("</title>")
+                    .append("<link>https://blog.example.com/").append(i).append("</link>")
+                    .append("<description>").append("본문 ".repeat(100)).append("</description></item>\n");
+        }
+        return rss.append("</channel></rss>").toString();
+    }
+
+    // 한 번에 최대 chunkSize 바이트만 돌려주는 본문 (네트워크에서 조각으로 받는 경우)
+    private Resource chunked(byte[] body, int chunkSize) {
+        return new InputStreamResource(new ByteArrayInputStream(body) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, chunkSize));
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.feedping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.dto.RssItemDto;
+import com.feedping.metrics.NotificationMetrics;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RssEntryIntakeServiceTest {
+
+    @Mock
+    private RssItemProcessService rssItemProcessService;
+
+    @Mock
+    private NotificationMetrics metrics;
+
+    @InjectMocks
+    private RssEntryIntakeService rssEntryIntakeService;
+
+    @Test
+    @DisplayName("기준 기록 전인 피드의 항목은 알림 없이 기준으로만 기록한다")
+    void should_RecordBaselineOnly_When_BaselinePending() {
+        // given
+        RssFeed rssFeed = RssFeed.builder().id(1L).url("https://blog.example.com/feed").build();
+        rssFeed.getFetchState().requestBaseline();
+        List<RssItemDto> entries = List.of(entry("a"), entry("b"));
+
+        // when
+        rssEntryIntakeService.accept(rssFeed, entries);
+
+        // then
+        then(rssItemProcessService).should().recordBaseline(rssFeed, entries);
+        then(rssItemProcessService).should(never()).processNewItems(any(), anyList());
+        assertThat(rssFeed.getFetchState().isBaselinePending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 반영한 항목이 다시 들어오면 새 항목만 처리한다")
+    void should_ProcessOnlyUnseenEntries_When_EntriesRepeat() {
+        // given: 폴링으로 a를 반영한 뒤 허브가 a, b를 푸시
+        RssFeed rssFeed = RssFeed.builder().id(1L).url("https://blog.example.com/feed").build();
+        rssEntryIntakeService.accept(rssFeed, List.of(entry("a")));
+        RssItemDto fresh = entry("b");
+
+        // when
+        rssEntryIntakeService.accept(rssFeed, List.of(fresh, entry("a")));
+
+        // then
+        then(rssItemProcessService).should().processNewItems(rssFeed, List.of(fresh));
+        then(metrics).should().recordFeedEntriesKnown(1);
+    }
+
+    private RssItemDto entry(String slug) {
+        return RssItemDto.of(slug, "https://blog.example.com/" + slug, "", LocalDateTime.now().minusHours(1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.feedping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+
+import com.feedping.domain.Member;
+import com.feedping.domain.RssFeed;
+import com.feedping.domain.Subscription;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.repository.RssFeedRepository;
+import com.feedping.repository.RssItemRepository;
+import com.feedping.repository.SubscriptionRepository;
+import com.feedping.repository.WebSubSubscriptionRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RssFeedRelocationServiceTest {
+
+    private static final String OLD_URL = "http://blog.example.com/rss";
+    private static final String NEW_URL = "https://blog.example.com/feed";
+
+    @InjectMocks
+    private RssFeedRelocationService rssFeedRelocationService;
+
+    @Mock
+    private RssFeedRepository rssFeedRepository;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private RssItemRepository rssItemRepository;
+
+    @Mock
+    private WebSubSubscriptionRepository webSubSubscriptionRepository;
+
+    @Mock
+    private NotificationMetrics metrics;
+
+    @Test
+    @DisplayName("새 주소의 피드가 없으면 기존 피드의 주소만 변경한다")
+    void should_ChangeUrl_When_TargetFeedNotExists() {
+        // given
+        RssFeed source = RssFeed.builder().id(1L).url(OLD_URL).build();
+        given(rssFeedRepository.findById(1L)).willReturn(Optional.of(source));
+        given(rssFeedRepository.findByUrl(NEW_URL)).willReturn(Optional.empty());
+
+        // when
+        Long survivorId = rssFeedRelocationService.relocate(1L, NEW_URL);
+
+        // then
+        assertThat(survivorId).isEqualTo(1L);
+        assertThat(source.getUrl()).isEqualTo(NEW_URL);
+        then(rssFeedRepository).should(never()).delete(source);
+    }
+
+    @Test
+    @DisplayName("새 주소의 피드가 이미 있으면 구독과 항목을 옮기고 기존 피드를 삭제한다")
+    void should_MergeFeeds_When_TargetFeedExists() {
+        // given
+        RssFeed source = RssFeed.builder().id(1L).url(OLD_URL).build();
+        RssFeed target = RssFeed.builder().id(2L).url(NEW_URL).build();
+        Member movedMember = Member.builder().id(10L).email("moved@example.com").build();
+        Member duplicateMember = Member.builder().id(11L).email("duplicate@example.com").build();
+        Subscription moved = Subscription.builder().id(100L).member(movedMember).rssFeed(source).siteName("블로그")
+                .build();
+        Subscription duplicate = Subscription.builder().id(101L).member(duplicateMember).rssFeed(source)
+                .siteName("블로그").build();
+
+        given(rssFeedRepository.findById(1L)).willReturn(Optional.of(source));
+        given(rssFeedRepository.findByUrl(NEW_URL)).willReturn(Optional.of(target));
+        given(subscriptionRepository.findByRssFeed(source)).willReturn(List.of(moved, duplicate));
+        given(subscriptionRepository.existsByMemberAndRssFeed(movedMember, target)).willReturn(false);
+        given(subscriptionRepository.existsByMemberAndRssFeed(duplicateMember, target)).willReturn(true);
+        given(webSubSubscriptionRepository.findByRssFeed(source)).willReturn(Optional.empty());
+
+        // when
+        Long survivorId = rssFeedRelocationService.relocate(1L, NEW_URL);
+
+        // then
+        assertThat(survivorId).isEqualTo(2L);
+        assertThat(moved.getRssFeed()).isSameAs(target);
+        then(subscriptionRepository).should().delete(duplicate);
+        then(rssItemRepository).should().moveItems(source, target);
+        then(rssFeedRepository).should().delete(source);
+        then(metrics).should().recordFeedRelocated("merged");
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
@@ -16,6 +17,7 @@ import com.feedping.dto.request.RssSubscriptionByEmailRequest;
 import com.feedping.dto.request.RssSubscriptionRequest;
 import com.feedping.dto.request.RssUnsubscribeRequest;
 import com.feedping.dto.response.RssSubscriptionPageResponse;
+import com.feedping.event.RssFeedRegisteredEvent;
 import com.feedping.exception.ErrorCode;
 import com.feedping.exception.GlobalException;
 import com.feedping.repository.MemberRepository;
@@ -30,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -57,6 +60,9 @@ class SubscriptionServiceTest {
     @Mock
     private RssValidationService rssValidationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("유효한 이메일과 RSS URL로 구독에 성공한다")
     void should_SubscribeRss_When_ValidRequest() {
@@ -262,7 +268,8 @@ class SubscriptionServiceTest {
         then(rssValidationService).should().validateRssUrl("https://example.com/rss.xml");
         then(memberRepository).should().findByEmail("test@example.com");
         then(rssFeedRepository).should().findByUrl("https://example.com/rss.xml");
-        then(rssFeedRepository).should().save(any(RssFeed.class));
+        // 첫 수집은 알림 없이 기준으로만 기록
+        then(rssFeedRepository).should().save(argThat(feed -> feed.getFetchState().isBaselinePending()));
         then(subscriptionRepository).should().existsByMemberAndRssFeed(member, savedRssFeed);
         then(subscriptionRepository).should().save(any(Subscription.class));
     }
@@ -305,6 +312,85 @@ class SubscriptionServiceTest {
         then(subscriptionRepository).should().delete(subscription);
     }
 
+    @Test
+    @DisplayName("마지막 구독자가 해지하면 피드를 보관 대상으로 표시하고, 남은 구독자가 있으면 그대로 둔다")
+    void should_MarkFeedOrphaned_When_LastSubscriberLeaves() {
+        // given
+        RssUnsubscribeRequest request = new RssUnsubscribeRequest();
+        ReflectionTestUtils.setField(request, "token", "valid-token");
+        Member member = Member.builder().id(1L).email("test@example.com").build();
+
+        RssFeed lastFeed = RssFeed.builder().id(1L).url("https://example.com/rss.xml").build();
+        RssFeed sharedFeed = RssFeed.builder().id(2L).url("https://example.com/shared.xml").build();
+        Subscription lastSubscription = Subscription.builder().id(1L).member(member).rssFeed(lastFeed).build();
+        Subscription sharedSubscription = Subscription.builder().id(2L).member(member).rssFeed(sharedFeed).build();
+
+        given(authTokenService.validateAndGetMember("valid-token")).willReturn(member);
+        given(subscriptionRepository.findById(1L)).willReturn(Optional.of(lastSubscription));
+        given(subscriptionRepository.findById(2L)).willReturn(Optional.of(sharedSubscription));
+        given(subscriptionRepository.existsByRssFeed(lastFeed)).willReturn(false);
+        given(subscriptionRepository.existsByRssFeed(sharedFeed)).willReturn(true);
+
+        // when
+        subscriptionService.unsubscribeRssWithToken(1L, request);
+        subscriptionService.unsubscribeRssWithToken(2L, request);
+
+        // then
+        assertThat(lastFeed.isOrphaned()).isTrue();
+        assertThat(sharedFeed.isOrphaned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 표기로 이미 등록된 피드가 있으면 새로 만들지 않고 그 피드를 구독한다")
+    void should_SubscribeExistingFeed_When_CanonicalUrlMatches() {
+        // given
+        RssSubscriptionRequest request = new RssSubscriptionRequest();
+        ReflectionTestUtils.setField(request, "email", "test@example.com");
+        ReflectionTestUtils.setField(request, "rssUrl", "http://www.example.com/rss.xml/?utm_source=twitter");
+        ReflectionTestUtils.setField(request, "siteName", "Test Blog");
+
+        Member member = Member.builder().id(1L).email("test@example.com").build();
+        RssFeed existingFeed = RssFeed.builder().id(1L).url("https://example.com/rss.xml").build();
+
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(rssFeedRepository.findFirstByCanonicalUrlOrderByIdAsc("example.com/rss.xml"))
+                .willReturn(Optional.of(existingFeed));
+        given(subscriptionRepository.existsByMemberAndRssFeed(member, existingFeed)).willReturn(false);
+
+        // when
+        subscriptionService.subscribeRss(request);
+
+        // then
+        then(rssFeedRepository).should(never()).save(any(RssFeed.class));
+        then(subscriptionRepository).should().save(argThat(subscription -> subscription.getRssFeed() == existingFeed));
+    }
+
+    @Test
+    @DisplayName("보관 중인 피드를 다시 구독하면 폴링 대상으로 복귀한다")
+    void should_AdoptFeed_When_OrphanedFeedResubscribed() {
+        // given
+        RssSubscriptionRequest request = new RssSubscriptionRequest();
+        ReflectionTestUtils.setField(request, "email", "test@example.com");
+        ReflectionTestUtils.setField(request, "rssUrl", "https://example.com/rss.xml");
+        ReflectionTestUtils.setField(request, "siteName", "Test Blog");
+
+        Member member = Member.builder().id(1L).email("test@example.com").build();
+        RssFeed rssFeed = RssFeed.builder().id(1L).url("https://example.com/rss.xml").build();
+        rssFeed.markOrphaned(LocalDateTime.now().minusDays(1));
+
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(rssFeedRepository.findByUrl("https://example.com/rss.xml")).willReturn(Optional.of(rssFeed));
+        given(subscriptionRepository.existsByMemberAndRssFeed(member, rssFeed)).willReturn(false);
+
+        // when
+        subscriptionService.subscribeRss(request);
+
+        // then
+        assertThat(rssFeed.isOrphaned()).isFalse();
+        assertThat(rssFeed.getFetchState().isBaselinePending()).isTrue();
+        then(eventPublisher).should().publishEvent(any(RssFeedRegisteredEvent.class));
+    }
+
     @Test
     @DisplayName("구독 정보를 찾을 수 없을 때 구독 해지 시 예외가 발생한다")
     void should_ThrowException_When_SubscriptionNotFound() {
@@ -0,0 +1,301 @@
+package com.feedping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.domain.WebSubStatus;
+import com.feedping.domain.WebSubSubscription;
+import com.feedping.dto.RssItemDto;
+import com.feedping.exception.GlobalException;
+import com.feedping.metrics.NotificationMetrics;
+import com.feedping.repository.RssFeedRepository;
+import com.feedping.repository.WebSubSubscriptionRepository;
+import com.feedping.sync.FeedPollScheduler;
+import com.feedping.sync.FeedSyncCluster;
+import com.feedping.sync.FeedSyncEngine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WebSubServiceTest {
+
+    private static final String HUB_URL = "https://hub.example.com/";
+    private static final String TOPIC_URL = "https://blog.example.com/feed";
+
+    @Mock
+    private WebSubSubscriptionRepository webSubSubscriptionRepository;
+
+    @Mock
+    private RssFeedRepository rssFeedRepository;
+
+    @Mock
+    private RssCommonService rssCommonService;
+
+    @Mock
+    private RssEntryIntakeService rssEntryIntakeService;
+
+    @Mock
+    private FeedPollScheduler feedPollScheduler;
+
+    @Mock
+    private FeedSyncCluster feedSyncCluster;
+
+    @Mock
+    private FeedSyncEngine feedSyncEngine;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private NotificationMetrics metrics;
+
+    private WebSubService webSubService;
+    private InProcessHub hub;
+    private RssFeed rssFeed;
+
+    @BeforeEach
+    void setUp() {
+        WebSubProperties properties = new WebSubProperties(true, "https://api.feedping.co.kr",
+                Duration.ofDays(10), Duration.ofDays(1), Duration.ofHours(1));
+        webSubService = new WebSubService(webSubSubscriptionRepository, rssFeedRepository, rssCommonService,
+                rssEntryIntakeService, feedPollScheduler, feedSyncCluster, feedSyncEngine, restTemplate, properties, metrics);
+        hub = new InProcessHub();
+        rssFeed = RssFeed.builder().id(1L).url(TOPIC_URL).build();
+    }
+
+    @Test
+    @DisplayName("허브가 구독을 확인하면 임대 만료 시점까지 폴링을 미룬다")
+    void should_DeferPolling_When_HubVerifiesSubscription() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+
+        // when
+        String challenge = hub.verify("subscribe", TOPIC_URL);
+
+        // then
+        assertThat(challenge).isEqualTo(InProcessHub.CHALLENGE);
+        assertThat(hub.subscription.getStatus()).isEqualTo(WebSubStatus.ACTIVE);
+        then(rssFeedRepository).should().updateNextPollAt(eq(1L),
+                argThat(nextPollAt -> nextPollAt.isAfter(LocalDateTime.now().plusDays(9))));
+        then(rssFeedRepository).should(never()).save(any());
+        then(feedPollScheduler).should().schedule(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("서명이 맞는 푸시 본문은 폴링과 같은 워터마크 규칙으로 바로 반영된다")
+    void should_ProcessItems_When_SignatureValid() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+        hub.verify("subscribe", TOPIC_URL);
+        List<RssItemDto> items = List.of(RssItemDto.of("새 글", "https://blog.example.com/1", "", null));
+        given(rssCommonService.parseFeedContent(any(byte[].class), anyString())).willReturn(items);
+        given(feedSyncCluster.tryLease(1L)).willReturn(true);
+        given(rssFeedRepository.findById(1L)).willReturn(Optional.of(rssFeed));
+
+        // when
+        hub.publish("<rss/>", hub.secret());
+
+        // then: 피드 전체가 아닌 워터마크만 저장하고 임대를 돌려줌
+        then(rssEntryIntakeService).should().accept(rssFeed, items);
+        then(rssFeedRepository).should().updateEntryWatermark(eq(1L), any(), any(), any());
+        then(rssFeedRepository).should(never()).save(any());
+        then(feedSyncCluster).should().release(1L);
+    }
+
+    @Test
+    @DisplayName("동기화 중인 피드로 전달된 푸시는 허브가 다시 보내도록 거부한다")
+    void should_RejectPush_When_FeedSyncing() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+        hub.verify("subscribe", TOPIC_URL);
+        List<RssItemDto> items = List.of(RssItemDto.of("새 글", "https://blog.example.com/1", "", null));
+        given(rssCommonService.parseFeedContent(any(byte[].class), anyString())).willReturn(items);
+        given(feedSyncEngine.isInFlight(1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> hub.publish("<rss/>", hub.secret()))
+                .isInstanceOf(GlobalException.class);
+        then(rssEntryIntakeService).should(never()).accept(any(), anyList());
+        then(rssFeedRepository).should(never()).updateEntryWatermark(any(), any(), any(), any());
+        then(feedSyncCluster).should(never()).release(any());
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 푸시 본문은 무시된다")
+    void should_IgnoreContent_When_SignatureInvalid() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+        hub.verify("subscribe", TOPIC_URL);
+
+        // when
+        hub.publish("<rss/>", "wrong-secret");
+
+        // then
+        then(rssEntryIntakeService).should(never()).accept(any(), anyList());
+        then(metrics).should().recordWebSubNotification("rejected");
+    }
+
+    @Test
+    @DisplayName("구독한 주소와 다른 주소로 확인 요청이 오면 거부한다")
+    void should_RejectVerification_When_TopicMismatch() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+
+        // when & then
+        assertThatThrownBy(() -> hub.verify("subscribe", "https://other.example.com/feed"))
+                .isInstanceOf(GlobalException.class);
+        assertThat(hub.subscription.getStatus()).isEqualTo(WebSubStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("확인을 기다리는 구독 요청이 없으면 구독 확인 요청을 거부한다")
+    void should_RejectVerification_When_NoOutstandingRequest() {
+        // given: 이미 확인을 마친 구독
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+        hub.verify("subscribe", TOPIC_URL);
+        LocalDateTime leaseExpiresAt = hub.subscription.getLeaseExpiresAt();
+
+        // when & then
+        assertThatThrownBy(() -> hub.verify("subscribe", TOPIC_URL))
+                .isInstanceOf(GlobalException.class);
+        assertThat(hub.subscription.getLeaseExpiresAt()).isEqualTo(leaseExpiresAt);
+    }
+
+    @Test
+    @DisplayName("허브가 요청보다 긴 임대 기간을 제시해도 요청한 기간까지만 폴링을 미룬다")
+    void should_ClampLease_When_HubOffersLongerLease() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+
+        // when
+        hub.verify("subscribe", TOPIC_URL, Duration.ofDays(365));
+
+        // then
+        assertThat(hub.subscription.getLeaseExpiresAt()).isBefore(LocalDateTime.now().plusDays(10).plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("구독 해지를 요청하지 않았으면 해지 확인 요청을 거부하고 구독을 유지한다")
+    void should_RejectUnsubscribe_When_NotRequested() {
+        // given
+        hub.acceptSubscriptions();
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+        hub.verify("subscribe", TOPIC_URL);
+
+        // when & then
+        assertThatThrownBy(() -> hub.verify("unsubscribe", TOPIC_URL))
+                .isInstanceOf(GlobalException.class);
+        assertThat(hub.subscription.getStatus()).isEqualTo(WebSubStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("콜백 주소는 구독 ID가 아닌 추측할 수 없는 값을 사용한다")
+    void should_UseRandomToken_When_BuildingCallbackUrl() {
+        // given
+        hub.acceptSubscriptions();
+
+        // when
+        webSubService.subscribeIfNeeded(rssFeed, HUB_URL, TOPIC_URL);
+
+        // then
+        assertThat(hub.callbackToken()).isNotEqualTo("10").hasSizeGreaterThanOrEqualTo(32);
+        assertThatThrownBy(() -> webSubService.verifyIntent("10", "subscribe", TOPIC_URL,
+                InProcessHub.CHALLENGE, null))
+                .isInstanceOf(GlobalException.class);
+    }
+
+    /**
+     * 테스트용 프로세스 내 허브
+     * 구독 요청을 받아 두었다가 확인 요청과 서명된 본문 전달을 콜백에 직접 수행
+     */
+    private class InProcessHub {
+
+        static final String CHALLENGE = "challenge-1234";
+        static final String CALLBACK_PREFIX = "https://api.feedping.co.kr/websub/callback/";
+
+        private WebSubSubscription subscription;
+        private MultiValueMap<String, String> subscribeRequest;
+
+        void acceptSubscriptions() {
+            given(webSubSubscriptionRepository.findByRssFeed(rssFeed))
+                    .willAnswer(invocation -> Optional.ofNullable(subscription));
+            given(webSubSubscriptionRepository.save(any(WebSubSubscription.class))).willAnswer(invocation -> {
+                subscription = invocation.getArgument(0);
+                ReflectionTestUtils.setField(subscription, "id", 10L);
+                return subscription;
+            });
+            given(webSubSubscriptionRepository.findWithRssFeedByCallbackToken(anyString()))
+                    .willAnswer(invocation -> Optional.ofNullable(subscription)
+                            .filter(saved -> saved.getCallbackToken().equals(invocation.getArgument(0))));
+            given(restTemplate.postForEntity(eq(HUB_URL), any(), eq(Void.class))).willAnswer(invocation -> {
+                subscribeRequest = invocation.getArgument(1);
+                return ResponseEntity.accepted().build();
+            });
+        }
+
+        String verify(String mode, String topic) {
+            return verify(mode, topic, Duration.ofDays(10));
+        }
+
+        String verify(String mode, String topic, Duration lease) {
+            return webSubService.verifyIntent(callbackToken(), mode, topic, CHALLENGE, lease.toSeconds());
+        }
+
+        String callbackToken() {
+            String callback = subscribeRequest.getFirst("hub.callback");
+            assertThat(callback).startsWith(CALLBACK_PREFIX);
+            return callback.substring(CALLBACK_PREFIX.length());
+        }
+
+        String secret() {
+            return subscribeRequest.getFirst("hub.secret");
+        }
+
+        void publish(String content, String signingSecret) {
+            byte[] body = content.getBytes(StandardCharsets.UTF_8);
+            webSubService.receive(callbackToken(), "sha256=" + sign(signingSecret, body), "application/rss+xml", body);
+        }
+
+        private String sign(String secret, byte[] body) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+                return HexFormat.of().formatHex(mac.doFinal(body));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.feedping.domain.FeedFetchState;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedBackoffPolicyTest {
+
+    private final FeedBackoffPolicy policy = new FeedBackoffPolicy(FeedSyncPropertiesFixture.defaults()
+            .backoff(new FeedSyncProperties.Backoff(Duration.ofMinutes(5), 2.0, Duration.ofHours(6), 10, Duration.ofHours(24)))
+            .build());
+
+    @Test
+    @DisplayName("실패할 때마다 재시도 간격이 두 배로 늘어난다")
+    void should_DoubleRetryDelay_When_FailuresRepeat() {
+        // given
+        FeedFetchState fetchState = failedTimes(3);
+
+        // when
+        Duration delay = policy.retryDelay(fetchState);
+
+        // then
+        assertThat(delay).isEqualTo(Duration.ofMinutes(20));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 최대 간격을 넘지 않는다")
+    void should_CapRetryDelay_When_ManyFailures() {
+        // given
+        FeedFetchState fetchState = failedTimes(9);
+
+        // when
+        Duration delay = policy.retryDelay(fetchState);
+
+        // then
+        assertThat(delay).isEqualTo(Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("평소 폴링 간격이 재시도 간격보다 길면 실패 후에도 평소 간격보다 먼저 수집하지 않는다")
+    void should_KeepPollInterval_When_RetryDelayIsShorter() {
+        // given: 6시간마다 수집하는 피드가 한 번 실패
+        FeedFetchState fetchState = failedTimes(1);
+
+        // when
+        Duration delay = policy.nextAttemptDelay(fetchState, Duration.ofHours(6));
+
+        // then
+        assertThat(delay).isEqualTo(Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("재시도 간격이 평소 폴링 간격보다 길면 재시도 간격만큼 미룬다")
+    void should_UseRetryDelay_When_PollIntervalIsShorter() {
+        // given
+        FeedFetchState fetchState = failedTimes(3);
+
+        // when
+        Duration delay = policy.nextAttemptDelay(fetchState, Duration.ofMinutes(5));
+
+        // then
+        assertThat(delay).isEqualTo(Duration.ofMinutes(20));
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 차단하고 드물게만 확인한다")
+    void should_OpenCircuit_When_ThresholdReached() {
+        // given
+        FeedFetchState fetchState = failedTimes(10);
+
+        // when
+        Duration delay = policy.retryDelay(fetchState);
+
+        // then
+        assertThat(policy.isCircuitOpen(fetchState)).isTrue();
+        assertThat(policy.justOpened(fetchState)).isTrue();
+        assertThat(delay).isEqualTo(Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("수집에 성공하면 연속 실패 횟수가 초기화된다")
+    void should_CloseCircuit_When_FetchSucceeds() {
+        // given
+        FeedFetchState fetchState = failedTimes(12);
+
+        // when
+        fetchState.recordSuccess(LocalDateTime.now());
+
+        // then
+        assertThat(policy.isCircuitOpen(fetchState)).isFalse();
+        assertThat(fetchState.getLastError()).isNull();
+    }
+
+    private FeedFetchState failedTimes(int failures) {
+        FeedFetchState fetchState = new FeedFetchState();
+        for (int i = 0; i < failures; i++) {
+            fetchState.recordFailure("RSS_FEED_CONNECTION_ERROR");
+        }
+        return fetchState;
+    }
+}
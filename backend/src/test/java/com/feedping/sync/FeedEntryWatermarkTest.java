@@ -0,0 +1,87 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.dto.RssItemDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedEntryWatermarkTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("워터마크가 없으면 모든 항목을 처리 대상으로 본다")
+    void should_ReturnAllEntries_When_NoWatermark() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+        List<RssItemDto> entries = List.of(entry("a", now.minusDays(1)), entry("b", now.minusDays(2)));
+
+        // when
+        List<RssItemDto> unseen = FeedEntryWatermark.unseen(fetchState, entries);
+
+        // then
+        assertThat(unseen).isEqualTo(entries);
+    }
+
+    @Test
+    @DisplayName("이미 처리한 항목과 워터마크보다 오래된 항목은 걸러낸다")
+    void should_FilterKnownAndOlderEntries_When_WatermarkAdvanced() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+        FeedEntryWatermark.advance(fetchState, List.of(entry("a", now.minusDays(1))), now);
+        RssItemDto fresh = entry("c", now.minusHours(1));
+        RssItemDto undated = entry("d", null);
+
+        // when
+        List<RssItemDto> unseen = FeedEntryWatermark.unseen(fetchState,
+                List.of(fresh, entry("a", now.minusDays(1)), entry("b", now.minusDays(3)), undated));
+
+        // then
+        assertThat(unseen).containsExactly(fresh, undated);
+    }
+
+    @Test
+    @DisplayName("미래 발행 시각은 워터마크에 반영하지 않는다")
+    void should_IgnoreFuturePublishedAt_When_Advancing() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+
+        // when
+        FeedEntryWatermark.advance(fetchState,
+                List.of(entry("future", now.plusYears(1)), entry("a", now.minusDays(1))), now);
+
+        // then
+        assertThat(fetchState.getNewestEntryAt()).isEqualTo(now.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("최근 항목은 최신순으로 최대 개수까지만 보관한다")
+    void should_KeepMostRecentKeys_When_ExceedingLimit() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+        FeedEntryWatermark.advance(fetchState, entries(0, 30), now);
+
+        // when
+        FeedEntryWatermark.advance(fetchState, entries(30, 60), now);
+
+        // then: 새로 본 30개와 이전 항목 중 최근 10개만 남음
+        List<RssItemDto> unseen = FeedEntryWatermark.unseen(fetchState, entries(0, 60));
+        assertThat(unseen).extracting(RssItemDto::getLink)
+                .containsExactlyElementsOf(entries(10, 30).stream().map(RssItemDto::getLink).toList());
+    }
+
+    private List<RssItemDto> entries(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> entry("post-" + i, null))
+                .toList();
+    }
+
+    private RssItemDto entry(String slug, LocalDateTime publishedAt) {
+        return RssItemDto.of(slug, "https://blog.example.com/" + slug, "", publishedAt);
+    }
+}
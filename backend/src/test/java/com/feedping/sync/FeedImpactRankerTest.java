@@ -0,0 +1,85 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.notification.PriorityNotificationQueue;
+import com.feedping.notification.PriorityNotificationQueue.Priority;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedImpactRankerTest {
+
+    @Mock
+    private PriorityNotificationQueue notificationQueue;
+
+    private FeedImpactRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        ranker = new FeedImpactRanker(notificationQueue, FeedSyncPropertiesFixture.defaults()
+                .polling(new FeedSyncProperties.Polling(Duration.ofMinutes(5), Duration.ofHours(6), null, null))
+                .build());
+        given(notificationQueue.calculatePriority(anyLong())).willReturn(Priority.LOW);
+    }
+
+    @Test
+    @DisplayName("구독자가 많고 자주 갱신되는 피드부터 수집한다")
+    void should_OrderByImpact_When_SelectingFeeds() {
+        // given
+        RssFeed single = feed(1L, Duration.ofMinutes(5));
+        RssFeed popular = feed(2L, Duration.ofMinutes(5));
+        RssFeed popularButDormant = feed(3L, Duration.ofHours(6));
+        given(notificationQueue.getSubscriberCount(1L)).willReturn(1);
+        given(notificationQueue.getSubscriberCount(2L)).willReturn(50);
+        given(notificationQueue.getSubscriberCount(3L)).willReturn(50);
+
+        // when
+        FeedImpactRanker.Selection selection = ranker.select(List.of(single, popularButDormant, popular),
+                Integer.MAX_VALUE);
+
+        // then
+        assertThat(selection.admitted()).containsExactly(popular, single, popularButDormant);
+        assertThat(selection.deferred()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리량을 넘으면 영향이 작은 피드를 미루되, 구독자가 많은 피드는 미루지 않는다")
+    void should_DeferLowImpactFeeds_When_OverCapacity() {
+        // given
+        RssFeed highFanout = feed(1L, Duration.ofHours(6));
+        RssFeed medium = feed(2L, Duration.ofMinutes(5));
+        RssFeed low = feed(3L, Duration.ofMinutes(5));
+        given(notificationQueue.calculatePriority(1L)).willReturn(Priority.HIGH);
+        given(notificationQueue.getSubscriberCount(1L)).willReturn(500);
+        given(notificationQueue.getSubscriberCount(2L)).willReturn(30);
+        given(notificationQueue.getSubscriberCount(3L)).willReturn(1);
+
+        // when
+        FeedImpactRanker.Selection selection = ranker.select(List.of(low, medium, highFanout), 0);
+
+        // then
+        assertThat(selection.admitted()).containsExactly(highFanout);
+        assertThat(selection.deferred()).containsExactly(medium, low);
+    }
+
+    private RssFeed feed(Long id, Duration pollInterval) {
+        RssFeed feed = RssFeed.builder()
+                .id(id)
+                .url("https://blog" + id + ".example.com/rss.xml")
+                .build();
+        feed.getFetchState().scheduleNextPoll(pollInterval, LocalDateTime.of(2025, 3, 1, 12, 0));
+        return feed;
+    }
+
+}
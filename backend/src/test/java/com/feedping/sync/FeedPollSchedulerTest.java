@@ -0,0 +1,119 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.feedping.dto.FeedPollSchedule;
+import com.feedping.repository.RssFeedRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class FeedPollSchedulerTest {
+
+    @Mock
+    private RssFeedRepository rssFeedRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("폴링 시각이 된 피드만 시각 순서대로 꺼낸다")
+    void should_PollOnlyDueFeeds_InDueOrder() {
+        // given
+        FeedPollScheduler scheduler = createScheduler();
+        scheduler.schedule(1L, now.minusMinutes(1));
+        scheduler.schedule(2L, now.minusMinutes(10));
+        scheduler.schedule(3L, now.plusMinutes(10));
+
+        // when
+        List<Long> dueFeedIds = scheduler.pollDue(now);
+
+        // then
+        assertThat(dueFeedIds).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재예약된 피드는 새 폴링 시각에만 꺼낸다")
+    void should_UseLatestSchedule_When_Rescheduled() {
+        // given
+        FeedPollScheduler scheduler = createScheduler();
+        scheduler.schedule(1L, now.minusMinutes(1));
+        scheduler.schedule(1L, now.plusHours(1));
+
+        // when & then
+        assertThat(scheduler.pollDue(now)).isEmpty();
+        assertThat(scheduler.pollDue(now.plusHours(1))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("꺼낸 피드는 결과가 예약되지 않아도 최소 간격 뒤에 다시 폴링된다")
+    void should_RetryAfterMinInterval_When_NotRescheduled() {
+        // given
+        FeedPollScheduler scheduler = createScheduler();
+        scheduler.schedule(1L, now);
+        scheduler.pollDue(now);
+
+        // when & then
+        assertThat(scheduler.pollDue(now.plusMinutes(4))).isEmpty();
+        assertThat(scheduler.pollDue(now.plusMinutes(5))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("예약 해제된 피드는 꺼내지 않는다")
+    void should_SkipFeed_When_Unscheduled() {
+        // given
+        FeedPollScheduler scheduler = createScheduler();
+        scheduler.schedule(1L, now);
+        scheduler.unschedule(1L);
+
+        // when & then
+        assertThat(scheduler.pollDue(now)).isEmpty();
+        assertThat(scheduler.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("피드 목록을 ID 순으로 나눠 읽어 모두 예약한다")
+    void should_LoadAllFeedsInChunks_When_ApplicationStarts() {
+        // given
+        FeedPollScheduler scheduler = createScheduler(2);
+        given(rssFeedRepository.findPollSchedulesAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(pollSchedule(1L), pollSchedule(2L)));
+        given(rssFeedRepository.findPollSchedulesAfter(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(pollSchedule(5L), pollSchedule(7L)));
+        given(rssFeedRepository.findPollSchedulesAfter(eq(7L), any(Pageable.class)))
+                .willReturn(List.of(pollSchedule(9L)));
+
+        // when
+        scheduler.loadSchedules();
+
+        // then
+        assertThat(scheduler.size()).isEqualTo(5);
+        assertThat(scheduler.pollDue(LocalDateTime.now().plusMinutes(10)))
+                .containsExactlyInAnyOrder(1L, 2L, 5L, 7L, 9L);
+    }
+
+    // 아직 수집한 적 없는 피드 (시작 시 분산 구간 안에 예약됨)
+    private FeedPollSchedule pollSchedule(Long rssFeedId) {
+        return new FeedPollSchedule(rssFeedId, "https://blog" + rssFeedId + ".example.com/rss.xml", null);
+    }
+
+    private FeedPollScheduler createScheduler() {
+        return createScheduler(0);
+    }
+
+    private FeedPollScheduler createScheduler(int chunkSize) {
+        FeedSyncProperties properties = FeedSyncPropertiesFixture.defaults()
+                .catalog(new FeedSyncProperties.Catalog(null, chunkSize))
+                .build();
+        return new FeedPollScheduler(rssFeedRepository, properties, new PollSpreader(properties));
+    }
+
+}
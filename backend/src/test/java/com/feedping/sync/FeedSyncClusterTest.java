@@ -0,0 +1,150 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class FeedSyncClusterTest {
+
+    private static final List<String> THREE_MEMBERS = List.of("instance-a", "instance-b", "instance-c");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private FeedPollScheduler feedPollScheduler;
+
+    @Test
+    @DisplayName("피드는 인스턴스 수에 맞춰 고르게 나뉜다")
+    void should_SpreadFeedsEvenly_When_MultipleMembers() {
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        LongStream.rangeClosed(1, 30_000).forEach(feedId ->
+                counts.merge(FeedSyncCluster.ownerOf(THREE_MEMBERS, feedId), 1, Integer::sum));
+
+        // then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(9_000, 11_000));
+    }
+
+    @Test
+    @DisplayName("인스턴스가 빠지면 그 인스턴스 몫의 피드만 담당이 바뀐다")
+    void should_MoveOnlyLeavingMembersFeeds_When_MemberLeaves() {
+        // given
+        List<String> remaining = List.of("instance-a", "instance-c");
+
+        // when & then
+        LongStream.rangeClosed(1, 10_000).forEach(feedId -> {
+            String before = FeedSyncCluster.ownerOf(THREE_MEMBERS, feedId);
+            String after = FeedSyncCluster.ownerOf(remaining, feedId);
+            if (!before.equals("instance-b")) {
+                assertThat(after).isEqualTo(before);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("분담이 꺼져 있으면 모든 피드를 이 인스턴스가 동기화한다")
+    void should_ClaimAll_When_ClusterDisabled() {
+        // given
+        FeedSyncCluster cluster = cluster(false);
+
+        // when
+        List<Long> claimed = cluster.claim(List.of(1L, 2L, 3L), LocalDateTime.now());
+
+        // then
+        assertThat(claimed).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대를 가진 피드는 잠시 뒤 다시 확인하도록 예약한다")
+    void should_DeferFeed_When_LeaseHeldByOtherInstance() {
+        // given: 인스턴스 목록을 받기 전에는 자신만 있는 것으로 간주하므로 모든 피드를 담당
+        FeedSyncCluster cluster = cluster(true);
+        LocalDateTime now = LocalDateTime.now();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("feed_sync:lease:1"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(valueOperations.setIfAbsent(eq("feed_sync:lease:2"), anyString(), any(Duration.class)))
+                .willReturn(false);
+
+        // when
+        List<Long> claimed = cluster.claim(List.of(1L, 2L), now);
+
+        // then
+        assertThat(claimed).containsExactly(1L);
+        then(feedPollScheduler).should().schedule(2L, now.plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("예약 작업 스레드가 동기화 사이클로 막혀 있어도 생존 신호는 계속 갱신된다")
+    void should_KeepHeartbeating_When_SyncCycleBlocksSchedulerThread() throws InterruptedException {
+        // given: 스프링 기본 예약 작업 스레드(1개)가 끝나지 않는 동기화 사이클을 실행 중
+        FeedSyncCluster cluster = cluster(true, Duration.ofMillis(20));
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        ExecutorService schedulerThread = Executors.newSingleThreadExecutor();
+        CountDownLatch cycleStarted = new CountDownLatch(1);
+        CountDownLatch cycleRelease = new CountDownLatch(1);
+        schedulerThread.submit(() -> {
+            cycleStarted.countDown();
+            cycleRelease.await();
+            return null;
+        });
+        cycleStarted.await();
+
+        try {
+            // when
+            cluster.start();
+
+            // then
+            then(zSetOperations).should(timeout(2_000).atLeast(3))
+                    .add(eq("feed_sync:members"), anyString(), anyDouble());
+            assertThat(cycleRelease.getCount()).isEqualTo(1);
+        } finally {
+            cluster.leave();
+            cycleRelease.countDown();
+            schedulerThread.shutdown();
+        }
+    }
+
+    private FeedSyncCluster cluster(boolean enabled) {
+        return cluster(enabled, null);
+    }
+
+    private FeedSyncCluster cluster(boolean enabled, Duration heartbeatInterval) {
+        FeedSyncProperties properties = FeedSyncPropertiesFixture.defaults()
+                .cluster(new FeedSyncProperties.Cluster(enabled, null, null, Duration.ofMinutes(1), heartbeatInterval))
+                .build();
+        return new FeedSyncCluster(redisTemplate, feedPollScheduler, properties);
+    }
+}
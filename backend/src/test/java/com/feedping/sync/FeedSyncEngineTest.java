@@ -0,0 +1,293 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.feedping.domain.RssFeed;
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.metrics.NotificationMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedSyncEngineTest {
+
+    private final NotificationMetrics metrics = mock(NotificationMetrics.class);
+
+    @Test
+    @DisplayName("동시성 제한을 넘는 피드 수도 거부 없이 모두 처리한다")
+    void should_ProcessAllFeeds_When_FeedCountExceedsConcurrency() {
+        // given
+        int concurrency = 5;
+        FeedSyncEngine engine = createEngine(concurrency);
+        List<RssFeed> feeds = createFeeds(100);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch saturated = new CountDownLatch(concurrency);
+
+        // when: 먼저 시작한 피드들은 동시성 제한만큼 겹칠 때까지 기다린 뒤 끝남
+        FeedSyncReport report = engine.run(feeds, stages(feed -> {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            saturated.countDown();
+            await(saturated);
+            running.decrementAndGet();
+        }));
+
+        // then
+        assertThat(report.total()).isEqualTo(100);
+        assertThat(report.succeeded()).isEqualTo(100);
+        assertThat(report.failed()).isZero();
+        assertThat(maxRunning.get()).isEqualTo(concurrency);
+    }
+
+    @Test
+    @DisplayName("실패한 피드는 실패 건수로 집계된다")
+    void should_CountFailures_When_SyncTaskThrows() {
+        // given
+        FeedSyncEngine engine = createEngine(3);
+        List<RssFeed> feeds = createFeeds(10);
+
+        // when
+        FeedSyncReport report = engine.run(feeds, stages(feed -> {
+            if (feed.getId() % 2 == 0) {
+                throw new IllegalStateException("sync failed");
+            }
+        }));
+
+        // then
+        assertThat(report.succeeded()).isEqualTo(5);
+        assertThat(report.failed()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("처리 중인 피드는 동기화 중으로 표시되고 사이클이 끝나면 해제된다")
+    void should_MarkFeedInFlight_When_FeedIsBeingProcessed() {
+        // given
+        FeedSyncEngine engine = createEngine(5);
+        List<RssFeed> feeds = createFeeds(3);
+        List<Boolean> observed = new CopyOnWriteArrayList<>();
+
+        // when
+        FeedSyncReport report = engine.run(feeds, stages(feed -> observed.add(engine.isInFlight(feed.getId()))));
+
+        // then
+        assertThat(report.succeeded()).isEqualTo(3);
+        assertThat(observed).containsOnly(true).hasSize(3);
+        assertThat(feeds).noneMatch(feed -> engine.isInFlight(feed.getId()));
+        then(metrics).should().recordFeedSyncCycle(any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 피드는 중단하고 수집 결과 대신 실패를 기록하여 시간 초과로 집계한다")
+    void should_CancelFeedAndRecordFailure_When_FeedDeadlinePasses() {
+        // given: 피드 1의 수집이 중단될 때까지 멈춰 있음
+        FeedSyncEngine engine = createEngine(5, Duration.ofSeconds(30), Duration.ofMillis(100));
+        List<RssFeed> feeds = createFeeds(3);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicInteger persisted = new AtomicInteger();
+        List<Long> skipped = new CopyOnWriteArrayList<>();
+        Map<Long, RuntimeException> failures = new ConcurrentHashMap<>();
+        CountDownLatch hang = new CountDownLatch(1);
+
+        FeedSyncStages stages = new FeedSyncStages() {
+            @Override
+            public Runnable fetch(RssFeed feed) {
+                if (feed.getId() == 1L) {
+                    try {
+                        hang.await();
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                        throw new IllegalStateException("fetch interrupted", e);
+                    }
+                }
+                return persisted::incrementAndGet;
+            }
+
+            @Override
+            public Runnable fetchFailed(RssFeed feed, RuntimeException cause) {
+                return () -> failures.put(feed.getId(), cause);
+            }
+
+            @Override
+            public void skipped(RssFeed feed) {
+                skipped.add(feed.getId());
+            }
+        };
+
+        // when
+        FeedSyncReport report = engine.run(feeds, stages);
+
+        // then
+        assertThat(report.succeeded()).isEqualTo(2);
+        assertThat(report.timedOut()).isEqualTo(1);
+        assertThat(report.elapsed()).isLessThan(Duration.ofSeconds(5));
+        assertThat(interrupted).isTrue();
+        assertThat(persisted.get()).isEqualTo(2);
+        assertThat(skipped).isEmpty();
+        assertThat(failures).containsOnlyKeys(1L);
+        assertThat(failures.get(1L)).isInstanceOfSatisfying(GlobalException.class,
+                e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RSS_FEED_SYNC_TIMEOUT));
+        then(metrics).should().recordFeedSyncTimeout("fetch");
+    }
+
+    @Test
+    @DisplayName("사이클 마감까지 수집 슬롯을 기다린 피드는 실패로 기록하지 않고 정리만 한다")
+    void should_SkipWithoutFailure_When_CycleDeadlinePassesWhileQueued() {
+        // given: 수집 슬롯 1개를 먼저 얻은 피드가 쥔 채 멈춰 있고, 나머지 피드는 슬롯을 기다림
+        FeedSyncEngine engine = createEngine(1, Duration.ofMillis(200), null);
+        List<RssFeed> feeds = createFeeds(3);
+        List<Long> skipped = new CopyOnWriteArrayList<>();
+        Map<Long, RuntimeException> failures = new ConcurrentHashMap<>();
+        CountDownLatch hang = new CountDownLatch(1);
+
+        FeedSyncStages stages = new FeedSyncStages() {
+            @Override
+            public Runnable fetch(RssFeed feed) {
+                try {
+                    hang.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("fetch interrupted", e);
+                }
+                return () -> {
+                };
+            }
+
+            @Override
+            public Runnable fetchFailed(RssFeed feed, RuntimeException cause) {
+                return () -> failures.put(feed.getId(), cause);
+            }
+
+            @Override
+            public void skipped(RssFeed feed) {
+                skipped.add(feed.getId());
+            }
+        };
+
+        // when
+        FeedSyncReport report = engine.run(feeds, stages);
+
+        // then: 수집 중이던 피드만 실패로 기록
+        assertThat(report.timedOut()).isEqualTo(3);
+        assertThat(failures).hasSize(1);
+        assertThat(skipped).hasSize(2).doesNotContainAnyElementsOf(failures.keySet());
+        then(metrics).should(times(2)).recordFeedSyncTimeout("queue");
+        then(metrics).should().recordFeedSyncTimeout("fetch");
+    }
+
+    @Test
+    @DisplayName("저장 단계는 설정한 스레드 수를 넘지 않고 모든 피드를 저장한다")
+    void should_BoundPersistConcurrency_When_FetchIsFasterThanPersist() {
+        // given: 수집은 빠르고 저장은 느림
+        FeedSyncProperties properties = FeedSyncPropertiesFixture.defaults()
+                .concurrency(10)
+                .pipeline(new FeedSyncProperties.Pipeline(2, 2, null))
+                .build();
+        FeedSyncEngine engine = new FeedSyncEngine(properties, new HostFetchScheduler(properties), metrics);
+        List<RssFeed> feeds = createFeeds(20);
+
+        AtomicInteger persisting = new AtomicInteger();
+        AtomicInteger maxPersisting = new AtomicInteger();
+        AtomicInteger persisted = new AtomicInteger();
+        CountDownLatch saturated = new CountDownLatch(2);
+        FeedSyncStages stages = new FeedSyncStages() {
+            @Override
+            public Runnable fetch(RssFeed feed) {
+                return () -> {
+                    maxPersisting.accumulateAndGet(persisting.incrementAndGet(), Math::max);
+                    saturated.countDown();
+                    await(saturated);
+                    persisting.decrementAndGet();
+                    persisted.incrementAndGet();
+                };
+            }
+
+            @Override
+            public Runnable fetchFailed(RssFeed feed, RuntimeException cause) {
+                return () -> {
+                };
+            }
+
+            @Override
+            public void skipped(RssFeed feed) {
+            }
+        };
+
+        // when
+        FeedSyncReport report = engine.run(feeds, stages);
+        engine.shutdown();
+
+        // then
+        assertThat(report.succeeded()).isEqualTo(20);
+        assertThat(persisted.get()).isEqualTo(20);
+        assertThat(maxPersisting.get()).isEqualTo(2);
+    }
+
+    private FeedSyncEngine createEngine(int concurrency) {
+        return createEngine(concurrency, Duration.ofSeconds(30), null);
+    }
+
+    private FeedSyncEngine createEngine(int concurrency, Duration cycleTimeout, Duration feedTimeout) {
+        FeedSyncProperties properties = FeedSyncPropertiesFixture.defaults()
+                .concurrency(concurrency)
+                .cycleTimeout(cycleTimeout)
+                .pipeline(new FeedSyncProperties.Pipeline(0, 0, feedTimeout))
+                .build();
+        return new FeedSyncEngine(properties, new HostFetchScheduler(properties), metrics);
+    }
+
+    // 수집 단계에서 작업을 실행하고 저장 단계는 비워 둔 파이프라인 단계
+    private FeedSyncStages stages(Consumer<RssFeed> fetch) {
+        return new FeedSyncStages() {
+            @Override
+            public Runnable fetch(RssFeed feed) {
+                fetch.accept(feed);
+                return () -> {
+                };
+            }
+
+            @Override
+            public Runnable fetchFailed(RssFeed feed, RuntimeException cause) {
+                return () -> {
+                };
+            }
+
+            @Override
+            public void skipped(RssFeed feed) {
+            }
+        };
+    }
+
+    // 호스트 요청 간격의 영향을 받지 않도록 피드마다 다른 호스트 사용
+    private List<RssFeed> createFeeds(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> RssFeed.builder()
+                        .id(id)
+                        .url("https://blog" + id + ".example.com/rss.xml")
+                        .build())
+                .toList();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.feedping.sync;
+
+import java.time.Duration;
+
+/**
+ * 테스트용 FeedSyncProperties 생성
+ * 지정하지 않은 설정은 운영 기본값을 사용하므로, 설정 그룹이 늘어나도 테스트를 고칠 필요가 없음
+ */
+public final class FeedSyncPropertiesFixture {
+
+    private int concurrency;
+    private Duration cycleTimeout;
+    private FeedSyncProperties.Politeness politeness;
+    private FeedSyncProperties.Polling polling;
+    private FeedSyncProperties.Backoff backoff;
+    private FeedSyncProperties.Cluster cluster;
+    private FeedSyncProperties.Catalog catalog;
+    private FeedSyncProperties.Pipeline pipeline;
+
+    private FeedSyncPropertiesFixture() {
+    }
+
+    public static FeedSyncPropertiesFixture defaults() {
+        return new FeedSyncPropertiesFixture();
+    }
+
+    public FeedSyncPropertiesFixture concurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture cycleTimeout(Duration cycleTimeout) {
+        this.cycleTimeout = cycleTimeout;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture politeness(FeedSyncProperties.Politeness politeness) {
+        this.politeness = politeness;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture polling(FeedSyncProperties.Polling polling) {
+        this.polling = polling;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture backoff(FeedSyncProperties.Backoff backoff) {
+        this.backoff = backoff;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture cluster(FeedSyncProperties.Cluster cluster) {
+        this.cluster = cluster;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture catalog(FeedSyncProperties.Catalog catalog) {
+        this.catalog = catalog;
+        return this;
+    }
+
+    public FeedSyncPropertiesFixture pipeline(FeedSyncProperties.Pipeline pipeline) {
+        this.pipeline = pipeline;
+        return this;
+    }
+
+    public FeedSyncProperties build() {
+        return new FeedSyncProperties(concurrency, cycleTimeout, politeness, polling, backoff, cluster, catalog,
+                pipeline);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.feedping.exception.ErrorCode;
+import com.feedping.exception.GlobalException;
+import com.feedping.exception.RssFetchThrottledException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HostFetchSchedulerTest {
+
+    // 실제로 기다리지 않고 대기 시간을 기록한 뒤 시계만 그만큼 앞으로 이동
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("같은 호스트에 대한 요청은 최소 간격을 두고 실행된다")
+    void should_KeepMinimumGap_When_SameHost() {
+        // given
+        HostFetchScheduler scheduler = createScheduler(1, Duration.ofMillis(200), Duration.ofSeconds(5));
+
+        // when
+        scheduler.execute("https://blog.example.com/a/rss.xml", () -> { });
+        scheduler.execute("https://blog.example.com/b/rss.xml", () -> { });
+        scheduler.execute("https://blog.example.com/c/rss.xml", () -> { });
+
+        // then
+        assertThat(sleeps).containsExactly(Duration.ofMillis(200).toNanos(), Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    @DisplayName("호스트별 동시 요청 수를 넘지 않는다")
+    void should_LimitConcurrency_PerHost() throws InterruptedException {
+        // given
+        HostFetchScheduler scheduler = createScheduler(2, Duration.ZERO, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch saturated = new CountDownLatch(2);
+
+        // when: 먼저 들어온 두 요청은 서로 겹칠 때까지 기다린 뒤 끝남
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                executor.execute(() -> scheduler.execute("https://blog.example.com/rss.xml", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    saturated.countDown();
+                    await(saturated);
+                    running.decrementAndGet();
+                }));
+            }
+        }
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 호스트의 요청은 간격 제한의 영향을 받지 않는다")
+    void should_NotWait_When_DifferentHosts() {
+        // given
+        HostFetchScheduler scheduler = createScheduler(1, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        // when
+        scheduler.execute("https://a.example.com/rss.xml", () -> { });
+        scheduler.execute("https://b.example.com/rss.xml", () -> { });
+
+        // then
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Retry-After를 받은 호스트는 대기 시간이 지날 때까지 수집을 건너뛴다")
+    void should_SkipHost_When_RetryAfterReceived() {
+        // given
+        HostFetchScheduler scheduler = createScheduler(1, Duration.ZERO, Duration.ofSeconds(1));
+        String url = "https://blog.example.com/rss.xml";
+
+        assertThatThrownBy(() -> scheduler.execute(url, () -> {
+            throw new RssFetchThrottledException("429", Duration.ofMinutes(10));
+        })).isInstanceOf(RssFetchThrottledException.class);
+
+        // when & then
+        assertThatThrownBy(() -> scheduler.execute(url, () -> { }))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RSS_FEED_RATE_LIMITED);
+    }
+
+    private HostFetchScheduler createScheduler(int perHostConcurrency, Duration minRequestGap, Duration maxWait) {
+        FeedSyncProperties.Politeness politeness =
+                new FeedSyncProperties.Politeness(perHostConcurrency, minRequestGap, maxWait, null, null);
+        return new HostFetchScheduler(FeedSyncPropertiesFixture.defaults().politeness(politeness).build(),
+                clock::get, nanos -> {
+                    sleeps.add(nanos);
+                    clock.addAndGet(nanos);
+                });
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
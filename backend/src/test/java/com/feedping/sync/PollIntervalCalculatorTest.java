@@ -0,0 +1,84 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.feedping.domain.FeedFetchState;
+import com.feedping.dto.FeedFetchResult;
+import com.feedping.dto.RssItemDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PollIntervalCalculatorTest {
+
+    private final PollIntervalCalculator calculator = new PollIntervalCalculator(FeedSyncPropertiesFixture.defaults()
+            .polling(new FeedSyncProperties.Polling(Duration.ofMinutes(5), Duration.ofHours(6), null, null))
+            .build());
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("자주 발행되는 피드는 발행 주기보다 짧은 간격으로 폴링한다")
+    void should_PollFrequently_When_FeedPublishesOften() {
+        // given
+        FeedFetchResult result = modified(now.minusHours(1), now.minusHours(3), now.minusHours(5), now.minusHours(7));
+
+        // when
+        Duration interval = calculator.calculate(new FeedFetchState(), result, now);
+
+        // then
+        assertThat(interval).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("오랫동안 새 글이 없는 피드는 최대 간격으로 폴링한다")
+    void should_UseMaxInterval_When_FeedIsDormant() {
+        // given
+        FeedFetchResult result = modified(now.minusDays(180), now.minusDays(181), now.minusDays(182));
+
+        // when
+        Duration interval = calculator.calculate(new FeedFetchState(), result, now);
+
+        // then
+        assertThat(interval).isEqualTo(Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 이전 간격을 늘린다")
+    void should_GrowInterval_When_NotModified() {
+        // given
+        FeedFetchState fetchState = new FeedFetchState();
+        fetchState.scheduleNextPoll(Duration.ofMinutes(20), now);
+
+        // when
+        Duration interval = calculator.calculate(fetchState, FeedFetchResult.notModified(null, null), now);
+
+        // then
+        assertThat(interval).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("학습된 간격이 없고 발행 시각도 없으면 최소 간격을 사용한다")
+    void should_UseMinInterval_When_NoHistory() {
+        // given
+        FeedFetchResult result = FeedFetchResult.modified(
+                List.of(new RssItemDto("title", "https://example.com/1", "", null)), null, null);
+
+        // when
+        Duration interval = calculator.calculate(new FeedFetchState(), result, now);
+
+        // then
+        assertThat(interval).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private FeedFetchResult modified(LocalDateTime... publishedAts) {
+        List<RssItemDto> items = Arrays.stream(publishedAts)
+                .map(publishedAt -> new RssItemDto("title", "https://example.com/" + publishedAt, "", publishedAt))
+                .toList();
+        return FeedFetchResult.modified(items, null, null);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.feedping.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PollSpreaderTest {
+
+    private final PollSpreader spreader = new PollSpreader(FeedSyncPropertiesFixture.defaults()
+            .polling(new FeedSyncProperties.Polling(null, null, Duration.ofMinutes(5), Duration.ofSeconds(10)))
+            .build(), bound -> 0);
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("같은 시각에 수집된 피드도 분산 구간 전체에 고르게 흩어진다")
+    void should_SpreadFeedsAcrossWindow_When_DueAtSameInstant() {
+        // when: 1분 단위 칸별 피드 수
+        Map<Long, Integer> perMinute = new HashMap<>();
+        LongStream.rangeClosed(1, 5_000).forEach(feedId -> {
+            LocalDateTime nextPollAt = spreader.catchUp(feedId, null, now);
+            perMinute.merge(Duration.between(now, nextPollAt).toMinutes(), 1, Integer::sum);
+        });
+
+        // then
+        assertThat(perMinute).containsOnlyKeys(0L, 1L, 2L, 3L, 4L);
+        assertThat(perMinute.values()).allSatisfy(count -> assertThat(count).isBetween(850, 1_150));
+    }
+
+    @Test
+    @DisplayName("수집이 늦어져도 피드는 같은 위상을 유지한다")
+    void should_KeepPhase_When_FetchIsDelayed() {
+        // given
+        Duration interval = Duration.ofMinutes(30);
+        LocalDateTime phased = spreader.align(7L, now.plus(interval), interval);
+
+        // when: 다음 수집이 위상보다 40초 늦게 이뤄진 경우
+        LocalDateTime fetchedAt = phased.plusSeconds(40);
+        LocalDateTime next = spreader.align(7L, fetchedAt.plus(interval), interval);
+
+        // then
+        assertThat(Duration.between(phased, next)).isEqualTo(interval);
+    }
+
+    @Test
+    @DisplayName("폴링 시각은 분산 구간의 절반 이상 옮겨지지 않는다")
+    void should_ShiftLessThanHalfWindow_When_Aligning() {
+        LongStream.rangeClosed(1, 1_000).forEach(feedId -> {
+            LocalDateTime dueAt = now.plusHours(1);
+            Duration shift = Duration.between(dueAt, spreader.align(feedId, dueAt, Duration.ofHours(1)));
+            assertThat(shift.abs()).isLessThanOrEqualTo(Duration.ofMinutes(2).plusSeconds(30));
+        });
+    }
+
+    @Test
+    @DisplayName("아직 폴링 시각이 되지 않은 피드는 예약을 바꾸지 않는다")
+    void should_KeepSchedule_When_NotYetDue() {
+        LocalDateTime nextPollAt = now.plusMinutes(42);
+        assertThat(spreader.catchUp(1L, nextPollAt, now)).isEqualTo(nextPollAt);
+    }
+
+}